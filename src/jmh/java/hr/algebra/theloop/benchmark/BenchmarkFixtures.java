@@ -0,0 +1,115 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.cards.ArtifactCard;
+import hr.algebra.theloop.cards.CardFactory;
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
+import hr.algebra.theloop.model.*;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.logging.Level;
+
+// Every benchmark starts from the same seeded mid-game board so results are comparable across runs
+final class BenchmarkFixtures {
+
+    static final long SEED = 7L;
+    static final int OPENING_TURNS = 4;
+
+    // Boards per invocation for benchmarks whose operation consumes its board; the rewind runs outside the
+    // timed region and a batch keeps each invocation long enough that per-invocation setup does not skew it
+    static final int BOARDS = 64;
+
+    private BenchmarkFixtures() {
+    }
+
+    static GameEngine midGame() {
+        GameLogger.setLevel(Level.SEVERE);
+
+        GameEngine gameEngine = GameEngine.createHeadless(SEED);
+        gameEngine.startGame();
+
+        for (int turn = 0; turn < OPENING_TURNS && !gameEngine.isGameOver(); turn++) {
+            gameEngine.endPlayerTurn();
+            gameEngine.processTurn();
+        }
+
+        if (gameEngine.isGameOver()) {
+            throw new IllegalStateException("Fixture game ended during the opening turns");
+        }
+        return gameEngine;
+    }
+
+    // Two-player board with the given number of duplicates dealt round-robin over the eras
+    // and every card type in each player's deck, so saves and snapshots carry a full payload
+    static GameEngine filledBoard(int duplicates) {
+        GameLogger.setLevel(Level.SEVERE);
+
+        GameEngine gameEngine = new GameEngine(UIUpdateDispatcher.HEADLESS, SEED);
+        gameEngine.getGameState().getResources().setDuplicatePoolingEnabled(true);
+        gameEngine.setupMultiplayerPlayers(PlayerMode.PLAYER_ONE);
+        gameEngine.startGame();
+
+        GameState gameState = gameEngine.getGameState();
+        Era[] eras = Era.values();
+        for (Era era : eras) {
+            gameState.clearDuplicatesAt(era);
+        }
+        for (int i = 0; i < duplicates; i++) {
+            gameState.spawnDuplicate(eras[i % eras.length]);
+        }
+
+        for (Player player : gameEngine.getPlayerManager().getPlayers()) {
+            CardFactory.getAllCardTypes().forEach(player::addCardToDeck);
+        }
+        gameEngine.saveGame();
+        return gameEngine;
+    }
+
+    static GameEngine[] midGames(int count) {
+        GameEngine[] gameEngines = new GameEngine[count];
+        for (int i = 0; i < count; i++) {
+            gameEngines[i] = midGame();
+        }
+        return gameEngines;
+    }
+
+    static NetworkGameState[] capture(GameEngine[] gameEngines) {
+        NetworkGameState[] baselines = new NetworkGameState[gameEngines.length];
+        for (int i = 0; i < gameEngines.length; i++) {
+            baselines[i] = capture(gameEngines[i].getGameState());
+        }
+        return baselines;
+    }
+
+    static int freeLoopbackPort() throws IOException {
+        try (ServerSocket probe = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return probe.getLocalPort();
+        }
+    }
+
+    static NetworkGameState capture(GameState gameState) {
+        return NetworkGameState.fromGameState(gameState, null, null, null);
+    }
+
+    // Puts the board, missions and the players' hands back to the captured baseline
+    static void reset(GameEngine gameEngine, NetworkGameState baseline) {
+        baseline.applyToGameState(gameEngine.getGameState());
+        for (Player player : gameEngine.getPlayerManager().getPlayers()) {
+            player.getHand().forEach(ArtifactCard::ready);
+        }
+    }
+
+    static int firstPlayableCard(GameState gameState, Player player) {
+        List<ArtifactCard> hand = player.getHand();
+        for (int i = 0; i < hand.size(); i++) {
+            if (hand.get(i).canExecute(gameState, player)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Fixture player has no playable card");
+    }
+}
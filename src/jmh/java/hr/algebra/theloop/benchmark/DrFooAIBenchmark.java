@@ -0,0 +1,51 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.engine.DrFooAI;
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.model.NetworkGameState;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DrFooAIBenchmark {
+
+    private GameEngine[] gameEngines;
+    private NetworkGameState[] baselines;
+    private DrFooAI[] drFooAIs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameEngines = BenchmarkFixtures.midGames(BenchmarkFixtures.BOARDS);
+        baselines = BenchmarkFixtures.capture(gameEngines);
+        drFooAIs = new DrFooAI[gameEngines.length];
+        for (int i = 0; i < gameEngines.length; i++) {
+            drFooAIs[i] = new DrFooAI(new SplittableRandom(BenchmarkFixtures.SEED), gameEngines[i]);
+        }
+    }
+
+    // Each phase spawns duplicates and drops rifts, so every board and its duplicate bag are rewound first
+    @Setup(Level.Invocation)
+    public void rewind() {
+        for (int i = 0; i < gameEngines.length; i++) {
+            BenchmarkFixtures.reset(gameEngines[i], baselines[i]);
+            gameEngines[i].restoreFromGameState(gameEngines[i].getGameState());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.BOARDS)
+    public void executeDrFooPhase(Blackhole blackhole) {
+        for (int i = 0; i < gameEngines.length; i++) {
+            drFooAIs[i].executeDrFooPhase(gameEngines[i].getGameState());
+            blackhole.consume(gameEngines[i].getGameState());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.model.Duplicate;
+import hr.algebra.theloop.model.Era;
+import hr.algebra.theloop.model.GameResources;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameResourcesBenchmark {
+
+    private GameResources resources;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        resources = BenchmarkFixtures.midGame().getGameState().getResources();
+    }
+
+    @Benchmark
+    public int getTotalDuplicates() {
+        return resources.getTotalDuplicates();
+    }
+
+    @Benchmark
+    public int getTotalRifts() {
+        return resources.getTotalRifts();
+    }
+
+    @Benchmark
+    public Era getEraWithMostRifts() {
+        return resources.getEraWithMostRifts();
+    }
+
+    @Benchmark
+    public void perEraAccessors(Blackhole blackhole) {
+        for (Era era : Era.values()) {
+            blackhole.consume(resources.getRifts(era));
+            blackhole.consume(resources.getEnergy(era));
+            blackhole.consume(resources.hasVortex(era));
+            blackhole.consume(resources.getDuplicateCount(era));
+        }
+    }
+
+    @Benchmark
+    public void getDuplicatesAt(Blackhole blackhole) {
+        for (Era era : Era.values()) {
+            blackhole.consume(resources.getDuplicatesAt(era));
+        }
+    }
+
+    // Leaves the board as it found it, so no per-invocation reset is needed
+    @Benchmark
+    public boolean spawnAndRemoveDuplicate() {
+        Duplicate duplicate = resources.spawnDuplicate(Era.MEDIEVAL);
+        return resources.removeDuplicate(Era.MEDIEVAL, duplicate);
+    }
+}
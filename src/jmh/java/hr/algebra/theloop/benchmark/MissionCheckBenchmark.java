@@ -0,0 +1,56 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.engine.MissionManager;
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.model.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MissionCheckBenchmark {
+
+    @Param({"RiftCard", "EnergyCard", "DestroyDuplicateCard"})
+    public String actionType;
+
+    private GameEngine[] gameEngines;
+    private NetworkGameState[] baselines;
+    private MissionManager[] missionManagers;
+    private Player[] players;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameEngines = BenchmarkFixtures.midGames(BenchmarkFixtures.BOARDS);
+        baselines = BenchmarkFixtures.capture(gameEngines);
+        missionManagers = new MissionManager[gameEngines.length];
+        players = new Player[gameEngines.length];
+        for (int i = 0; i < gameEngines.length; i++) {
+            missionManagers[i] = gameEngines[i].getMissionManager();
+            players[i] = gameEngines[i].getCurrentPlayer();
+        }
+    }
+
+    // A completed mission leaves the active list, so every board's missions are restored before each batch
+    @Setup(Level.Invocation)
+    public void rewind() {
+        for (int i = 0; i < gameEngines.length; i++) {
+            BenchmarkFixtures.reset(gameEngines[i], baselines[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.BOARDS)
+    public void checkAllMissions(Blackhole blackhole) {
+        for (int i = 0; i < gameEngines.length; i++) {
+            missionManagers[i].checkAllMissions(gameEngines[i].getGameState(), players[i], actionType);
+            blackhole.consume(gameEngines[i].getGameState());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.model.NetworkGameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NetworkGameStateBenchmark {
+
+    private GameState source;
+    private GameState target;
+    private NetworkGameState snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        source = BenchmarkFixtures.midGame().getGameState();
+        snapshot = BenchmarkFixtures.capture(source);
+        target = new GameState();
+    }
+
+    @Benchmark
+    public NetworkGameState fromGameState() {
+        return NetworkGameState.fromGameState(source, null, "Benchmark", "Benchmark");
+    }
+
+    // Applying a full snapshot overwrites everything it carries, so repeated calls start from the same state
+    @Benchmark
+    public GameState applyToGameState() {
+        snapshot.applyToGameState(target);
+        return target;
+    }
+}
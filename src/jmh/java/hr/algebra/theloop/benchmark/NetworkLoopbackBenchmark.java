@@ -0,0 +1,93 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.model.PlayerMode;
+import hr.algebra.theloop.networking.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Host and client run in the benchmark JVM over 127.0.0.1. Each operation is one state broadcast from the
+// client until the host has decoded and handed it on, with the same delta/full-snapshot mix a real game sends.
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NetworkLoopbackBenchmark {
+
+    private static final long CONNECT_DEADLINE_MILLIS = 5_000;
+
+    @Param({"0", "7", "14", "28"})
+    public int duplicates;
+
+    @Param({"virtual-threads", "nio"})
+    public String serverImplementation;
+
+    private final Semaphore received = new Semaphore(0);
+
+    private GameState gameState;
+    private PeerServer peerServer;
+    private PeerConnection client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        gameState = BenchmarkFixtures.filledBoard(duplicates).getGameState();
+
+        int port = BenchmarkFixtures.freeLoopbackPort();
+        peerServer = switch (ServerMode.fromConfigValue(serverImplementation)) {
+            case NIO_SELECTOR -> new NioGameServer(PlayerMode.PLAYER_ONE, port, 1,
+                    (peer, state) -> received.release(), connection -> { });
+            case VIRTUAL_THREADS -> new GameServer(PlayerMode.PLAYER_ONE, port, 1,
+                    (peer, state) -> received.release(), connection -> { });
+        };
+
+        Thread serverThread = new Thread(peerServer, "BenchmarkServer");
+        serverThread.setDaemon(true);
+        serverThread.start();
+
+        client = new PeerConnection(connect(port), (peer, state) -> { });
+        client.startReading();
+    }
+
+    // The server thread binds asynchronously, so the first attempts may be refused
+    private static Socket connect(int port) throws IOException, InterruptedException {
+        long deadline = System.currentTimeMillis() + CONNECT_DEADLINE_MILLIS;
+        while (true) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1_000);
+                return socket;
+            } catch (ConnectException e) {
+                socket.close();
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        peerServer.stop();
+    }
+
+    @Benchmark
+    public boolean sendGameStateRoundTrip() throws InterruptedException {
+        gameState.nextTurn();
+        boolean sent = client.send(NetworkGameState.fromGameState(gameState, PlayerMode.PLAYER_ONE,
+                "End Turn", "Benchmark"));
+        received.acquire();
+        return sent;
+    }
+}
@@ -0,0 +1,74 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.persistence.GameStateSnapshot;
+import hr.algebra.theloop.persistence.PersistenceService;
+import hr.algebra.theloop.persistence.SaveCompression;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// Mirrors GamePersistenceManager's manual save and load (snapshot on the caller, write and catalog update on
+// PersistenceService's virtual-thread I/O executor, not SaveExecutor) but against a temp directory instead
+// of the working directory's saves folder
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PersistenceRoundTripBenchmark {
+
+    private static final String SAVE_FILE_NAME = "manual_save_benchmark.dat";
+
+    @Param({"0", "7", "14", "28"})
+    public int duplicates;
+
+    private GameState gameState;
+    private SaveCompression compression;
+    private Path directory;
+    private Path saveFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gameState = BenchmarkFixtures.filledBoard(duplicates).getGameState();
+        compression = SaveCompression.fromConfigValue(
+                ConfigurationReader.getStringValueForKey(ConfigurationKey.MANUAL_SAVE_COMPRESSION));
+
+        directory = Files.createTempDirectory("theloop-persistence-benchmark");
+        saveFile = directory.resolve(SAVE_FILE_NAME);
+        save();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        GameStateSnapshot snapshot = GameStateSnapshot.capture(gameState);
+        return PersistenceService.INSTANCE.saveAsync(saveFile, snapshot, compression).join();
+    }
+
+    @Benchmark
+    public GameState load() {
+        return PersistenceService.INSTANCE.loadAsync(saveFile).join();
+    }
+
+    @Benchmark
+    public GameState saveLoadCycle() throws IOException {
+        save();
+        return load();
+    }
+}
@@ -0,0 +1,64 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.engine.CardAcquisitionManager;
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.engine.MissionManager;
+import hr.algebra.theloop.engine.PlayerActionManager;
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.model.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PlayCardBenchmark {
+
+    private GameEngine[] gameEngines;
+    private NetworkGameState[] baselines;
+    private PlayerActionManager[] playerActionManagers;
+    private Player[] players;
+    private int[] cardIndexes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameEngines = BenchmarkFixtures.midGames(BenchmarkFixtures.BOARDS);
+        baselines = BenchmarkFixtures.capture(gameEngines);
+        playerActionManagers = new PlayerActionManager[gameEngines.length];
+        players = new Player[gameEngines.length];
+        cardIndexes = new int[gameEngines.length];
+
+        for (int i = 0; i < gameEngines.length; i++) {
+            SplittableRandom random = new SplittableRandom(BenchmarkFixtures.SEED);
+            playerActionManagers[i] = new PlayerActionManager(gameEngines[i].getGameState(),
+                    new MissionManager(random), new CardAcquisitionManager(random), UIUpdateDispatcher.HEADLESS);
+
+            players[i] = gameEngines[i].getCurrentPlayer();
+            cardIndexes[i] = BenchmarkFixtures.firstPlayableCard(gameEngines[i].getGameState(), players[i]);
+        }
+    }
+
+    // Playing exhausts the card and changes the board, so both are restored on every board before each batch
+    @Setup(Level.Invocation)
+    public void rewind() {
+        for (int i = 0; i < gameEngines.length; i++) {
+            BenchmarkFixtures.reset(gameEngines[i], baselines[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.BOARDS)
+    public void playCard(Blackhole blackhole) {
+        for (int i = 0; i < gameEngines.length; i++) {
+            Player player = players[i];
+            blackhole.consume(playerActionManagers[i].playCard(player, cardIndexes[i], player.getCurrentEra()));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.persistence.GameStateSnapshot;
+import hr.algebra.theloop.persistence.PersistenceService;
+import hr.algebra.theloop.persistence.SaveCompression;
+import hr.algebra.theloop.simulation.SimulatedGame;
+import hr.algebra.theloop.utils.GameLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compares the save compressions on finished games, which carry the largest boards a save ever holds.
+// Each invocation writes or reads the next game in a fixed set so the payload varies like real saves do
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveFormatBenchmark {
+
+    private static final int GAME_COUNT = 200;
+
+    @Param({"none", "deflate", "gzip"})
+    public String compressionName;
+
+    private SaveCompression compression;
+    private GameStateSnapshot[] snapshots;
+    private Path[] writeFiles;
+    private Path[] readFiles;
+    private long[] fileSizes;
+    private Path directory;
+    private int next;
+
+    // Bytes written per iteration, taken from the sizes recorded at setup so no stat lands in the timed region;
+    // divide by the write count for the average save size
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class SaveSize {
+        public long bytesWritten;
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            bytesWritten = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GameLogger.setLevel(java.util.logging.Level.SEVERE);
+        compression = SaveCompression.fromConfigValue(compressionName);
+        directory = Files.createTempDirectory("theloop-save-format-benchmark");
+
+        SplittableRandom random = new SplittableRandom(BenchmarkFixtures.SEED);
+        snapshots = new GameStateSnapshot[GAME_COUNT];
+        writeFiles = new Path[GAME_COUNT];
+        readFiles = new Path[GAME_COUNT];
+        fileSizes = new long[GAME_COUNT];
+
+        for (int i = 0; i < GAME_COUNT; i++) {
+            GameState gameState = new SimulatedGame(random.nextLong()).play().getGameState();
+            snapshots[i] = GameStateSnapshot.capture(gameState);
+            writeFiles[i] = directory.resolve("write_" + i + ".dat");
+            readFiles[i] = directory.resolve("read_" + i + ".dat");
+            PersistenceService.INSTANCE.write(readFiles[i], snapshots[i], compression);
+            fileSizes[i] = Files.size(readFiles[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Path write(SaveSize saveSize) throws IOException {
+        int index = nextIndex();
+        PersistenceService.INSTANCE.write(writeFiles[index], snapshots[index], compression);
+        saveSize.bytesWritten += fileSizes[index];
+        return writeFiles[index];
+    }
+
+    @Benchmark
+    public GameState read() throws IOException {
+        return PersistenceService.INSTANCE.read(readFiles[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = (index + 1) % GAME_COUNT;
+        return index;
+    }
+}
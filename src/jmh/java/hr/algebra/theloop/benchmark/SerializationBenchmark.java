@@ -0,0 +1,57 @@
+package hr.algebra.theloop.benchmark;
+
+import hr.algebra.theloop.codec.GameStateCodec;
+import hr.algebra.theloop.model.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.TimeUnit;
+
+// Java serialization next to the binary codec the save and network paths actually use
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+    private GameState gameState;
+    private byte[] serialized;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        gameState = BenchmarkFixtures.midGame().getGameState();
+        serialized = serialize();
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(gameState);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public GameState deserialize() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return (GameState) input.readObject();
+        }
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        GameStateCodec.writeGameState(gameState, bytes);
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public GameState decode() throws IOException {
+        return GameStateCodec.readGameState(new ByteArrayInputStream(encoded));
+    }
+}
@@ -1,5 +1,7 @@
 package hr.algebra.theloop;
 
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
 import hr.algebra.theloop.model.PlayerMode;
 import hr.algebra.theloop.utils.GameLogger;
 import javafx.application.Application;
@@ -37,6 +39,7 @@ public class TheLoopApplication extends Application {
     }
 
     public static void main(String[] args) {
+        GameLogger.configure();
         PlayerMode playerMode = PlayerMode.SINGLE_PLAYER;
 
         if (args.length > 0) {
@@ -50,6 +53,10 @@ public class TheLoopApplication extends Application {
             }
         }
 
+        if (args.length > 1) {
+            ConfigurationReader.updateConfiguration(ConfigurationKey.SESSION_ID, args[1]);
+        }
+
         System.setProperty("playerMode", playerMode.name());
 
         launch(args);
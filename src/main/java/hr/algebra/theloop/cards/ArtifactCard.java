@@ -12,6 +12,8 @@ import java.io.Serializable;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public abstract class ArtifactCard implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     @EqualsAndHashCode.Include
     @NonNull protected String name;
 
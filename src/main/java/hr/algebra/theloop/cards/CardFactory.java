@@ -2,44 +2,68 @@ package hr.algebra.theloop.cards;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
 
 public class CardFactory {
 
+    // Position in this list is the card type id used by the binary codec - only append new cards
+    private static final List<Supplier<ArtifactCard>> CARD_TYPES = List.of(
+            EnergyCard::createBasicEnergy,
+            EnergyCard::createEnergyBoost,
+            EnergyCard::createAdjacentEnergy,
+            EnergyCard::createEnergySiphon,
+
+            RiftCard::createBasicRepair,
+            RiftCard::createQuantumEraser,
+            RiftCard::createAdjacentRepair,
+            RiftCard::createDrFooDisruptor,
+
+            MovementCard::createTimeWalk,
+            MovementCard::createQuantumLeap,
+            MovementCard::createEnergeticStep,
+
+            PushDuplicateCard::createBasicPush,
+            PullDuplicateCard::createBasicPull,
+            DestroyDuplicateCard::createBasicDestroy
+    );
+
+    private static final Map<String, Integer> CARD_TYPE_IDS = indexCardTypes();
+
     private CardFactory() {
     }
 
-    private static final Random random = new Random();
-
-    public static List<ArtifactCard> createRandomStartingDeck() {
+    public static List<ArtifactCard> createRandomStartingDeck(RandomGenerator random) {
         List<ArtifactCard> allStartingCards = new ArrayList<>();
 
-        allStartingCards.add(createRandomEnergyCard());
-        allStartingCards.add(createRandomRiftCard());
-        allStartingCards.add(createRandomMovementCard());
+        allStartingCards.add(createRandomEnergyCard(random));
+        allStartingCards.add(createRandomRiftCard(random));
+        allStartingCards.add(createRandomMovementCard(random));
 
         for (int i = 0; i < 6; i++) {
-            allStartingCards.add(createRandomCard());
+            allStartingCards.add(createRandomCard(random));
         }
 
         Collections.shuffle(allStartingCards, random);
         return allStartingCards;
     }
 
-    public static ArtifactCard createRandomCard() {
+    public static ArtifactCard createRandomCard(RandomGenerator random) {
         int cardType = random.nextInt(4);
 
         return switch (cardType) {
-            case 0 -> createRandomEnergyCard();
-            case 1 -> createRandomRiftCard();
-            case 2 -> createRandomMovementCard();
-            case 3 -> createRandomDuplicateCard();
+            case 0 -> createRandomEnergyCard(random);
+            case 1 -> createRandomRiftCard(random);
+            case 2 -> createRandomMovementCard(random);
+            case 3 -> createRandomDuplicateCard(random);
             default -> EnergyCard.createBasicEnergy();
         };
     }
 
-    private static ArtifactCard createRandomEnergyCard() {
+    private static ArtifactCard createRandomEnergyCard(RandomGenerator random) {
         int variant = random.nextInt(4);
 
         return switch (variant) {
@@ -51,7 +75,7 @@ public class CardFactory {
         };
     }
 
-    private static ArtifactCard createRandomRiftCard() {
+    private static ArtifactCard createRandomRiftCard(RandomGenerator random) {
         int variant = random.nextInt(4);
 
         return switch (variant) {
@@ -63,7 +87,7 @@ public class CardFactory {
         };
     }
 
-    private static ArtifactCard createRandomMovementCard() {
+    private static ArtifactCard createRandomMovementCard(RandomGenerator random) {
         int variant = random.nextInt(3);
 
         return switch (variant) {
@@ -74,7 +98,7 @@ public class CardFactory {
         };
     }
 
-    private static ArtifactCard createRandomDuplicateCard() {
+    private static ArtifactCard createRandomDuplicateCard(RandomGenerator random) {
         int variant = random.nextInt(3);
 
         return switch (variant) {
@@ -87,25 +111,29 @@ public class CardFactory {
 
     public static List<ArtifactCard> getAllCardTypes() {
         List<ArtifactCard> allCards = new ArrayList<>();
+        for (Supplier<ArtifactCard> cardType : CARD_TYPES) {
+            allCards.add(cardType.get());
+        }
+        return allCards;
+    }
 
-        allCards.add(EnergyCard.createBasicEnergy());
-        allCards.add(EnergyCard.createEnergyBoost());
-        allCards.add(EnergyCard.createAdjacentEnergy());
-        allCards.add(EnergyCard.createEnergySiphon());
-
-        allCards.add(RiftCard.createBasicRepair());
-        allCards.add(RiftCard.createQuantumEraser());
-        allCards.add(RiftCard.createAdjacentRepair());
-        allCards.add(RiftCard.createDrFooDisruptor());
-
-        allCards.add(MovementCard.createTimeWalk());
-        allCards.add(MovementCard.createQuantumLeap());
-        allCards.add(MovementCard.createEnergeticStep());
+    public static int getCardTypeId(ArtifactCard card) {
+        Integer typeId = CARD_TYPE_IDS.get(card.getName());
+        return typeId != null ? typeId : -1;
+    }
 
-        allCards.add(PushDuplicateCard.createBasicPush());
-        allCards.add(PullDuplicateCard.createBasicPull());
-        allCards.add(DestroyDuplicateCard.createBasicDestroy());
+    public static ArtifactCard createCardByTypeId(int typeId) {
+        if (typeId < 0 || typeId >= CARD_TYPES.size()) {
+            throw new IllegalArgumentException("Unknown card type id: " + typeId);
+        }
+        return CARD_TYPES.get(typeId).get();
+    }
 
-        return allCards;
+    private static Map<String, Integer> indexCardTypes() {
+        Map<String, Integer> typeIds = new HashMap<>();
+        for (int i = 0; i < CARD_TYPES.size(); i++) {
+            typeIds.put(CARD_TYPES.get(i).get().getName(), i);
+        }
+        return typeIds;
     }
-}
\ No newline at end of file
+}
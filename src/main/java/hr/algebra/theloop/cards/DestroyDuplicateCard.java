@@ -10,6 +10,8 @@ import java.util.List;
 
 public class DestroyDuplicateCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     public DestroyDuplicateCard(String name) {
         super(name, "Destroy 1 duplicate on current era", CardDimension.STRIPE);
     }
@@ -22,7 +24,7 @@ public class DestroyDuplicateCard extends ArtifactCard {
         if (!duplicatesHere.isEmpty()) {
             Duplicate duplicateToDestroy = duplicatesHere.get(0);
             gameState.removeDuplicate(playerEra, duplicateToDestroy);
-            GameLogger.playerAction(player.getName(), "Destroyed duplicate at " + playerEra.getDisplayName());
+            GameLogger.playerAction(player.getName(), "Destroyed duplicate", "era", playerEra.getDisplayName());
         }
 
         exhaust();
@@ -45,7 +47,7 @@ public class DestroyDuplicateCard extends ArtifactCard {
         boolean removed = gameState.removeDuplicate(targetEra, selectedDuplicate);
 
         if (removed) {
-            GameLogger.playerAction(player.getName(), "Destroyed duplicate at " + targetEra.getDisplayName());
+            GameLogger.playerAction(player.getName(), "Destroyed duplicate", "era", targetEra.getDisplayName());
             return true;
         }
 
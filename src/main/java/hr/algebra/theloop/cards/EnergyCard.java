@@ -9,6 +9,8 @@ import java.util.Objects;
 
 public class EnergyCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     public enum EnergyEffect {
         ADD_TO_CURRENT,
         ADD_TO_ADJACENT,
@@ -45,14 +47,14 @@ public class EnergyCard extends ArtifactCard {
         switch (effect) {
             case ADD_TO_CURRENT -> {
                 gameState.addEnergy(playerEra, energyAmount);
-                GameLogger.playerAction(player.getName(), "Added " + energyAmount + " energy to " + playerEra.getDisplayName());
+                GameLogger.playerAction(player.getName(), "Added energy", "energy", energyAmount, "era", playerEra.getDisplayName());
             }
             case ADD_TO_ADJACENT -> {
                 Era prevEra = playerEra.getPrevious();
                 Era nextEra = playerEra.getNext();
                 gameState.addEnergy(prevEra, energyAmount);
                 gameState.addEnergy(nextEra, energyAmount);
-                GameLogger.playerAction(player.getName(), "Added " + energyAmount + " energy to adjacent eras");
+                GameLogger.playerAction(player.getName(), "Added energy to adjacent eras", "energy", energyAmount);
             }
             case STEAL_FROM_DR_FOO -> {
                 Era drFooEra = gameState.getDrFooPosition();
@@ -62,7 +64,7 @@ public class EnergyCard extends ArtifactCard {
                 if (actualStolen > 0) {
                     gameState.removeEnergy(drFooEra, actualStolen);
                     gameState.addEnergy(playerEra, actualStolen);
-                    GameLogger.playerAction(player.getName(), "Stole " + actualStolen + " energy from Dr. Foo");
+                    GameLogger.playerAction(player.getName(), "Stole energy from Dr. Foo", "energy", actualStolen);
                 }
             }
         }
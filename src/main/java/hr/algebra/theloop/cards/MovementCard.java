@@ -9,6 +9,8 @@ import java.util.Arrays;
 
 public class MovementCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     public enum MovementEffect {
         MOVE_ADJACENT,
         MOVE_TWO_ERAS,
@@ -55,12 +57,12 @@ public class MovementCard extends ArtifactCard {
         switch (effect) {
             case MOVE_ADJACENT, MOVE_TWO_ERAS -> {
                 player.moveToEra(targetEra);
-                GameLogger.playerAction(player.getName(), "Moved to " + targetEra.getDisplayName());
+                GameLogger.playerAction(player.getName(), "Moved", "era", targetEra.getDisplayName());
             }
             case MOVE_AND_ADD_ENERGY -> {
                 player.moveToEra(targetEra);
                 gameState.addEnergy(targetEra, 1);
-                GameLogger.playerAction(player.getName(), "Moved to " + targetEra.getDisplayName() + " + 1 energy");
+                GameLogger.playerAction(player.getName(), "Moved", "era", targetEra.getDisplayName(), "energy", 1);
             }
         }
         return true;
@@ -10,6 +10,8 @@ import java.util.List;
 
 public class PullDuplicateCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     public PullDuplicateCard(String name) {
         super(name, "Pull 1 duplicate from adjacent era", CardDimension.STRIPE);
     }
@@ -53,23 +55,14 @@ public class PullDuplicateCard extends ArtifactCard {
             return false;
         }
 
-        gameState.removeDuplicate(sourceEra, selectedDuplicate);
-
-        Duplicate movedDuplicate = new Duplicate(
-                selectedDuplicate.getSpawnEra(),
-                playerEra,
-                selectedDuplicate.getTurnsActive()
-        );
+        boolean stillOnBoard = gameState.moveDuplicate(sourceEra, playerEra, selectedDuplicate);
 
-        if (movedDuplicate.isAtDestructionEra()) {
-            GameLogger.playerAction(player.getName(),
-                    "Duplicate destroyed by temporal paradox at " + playerEra.getDisplayName() +
-                            " (destroy era: " + movedDuplicate.getDestroyEra().getDisplayName() + ")");
+        if (!stillOnBoard) {
+            GameLogger.playerAction(player.getName(), "Duplicate destroyed by temporal paradox",
+                    "era", playerEra.getDisplayName(), "destroyEra", selectedDuplicate.getDestroyEra().getDisplayName());
         } else {
-            gameState.addDuplicate(playerEra, movedDuplicate);
-            GameLogger.playerAction(player.getName(),
-                    "Pulled duplicate from " + sourceEra.getDisplayName() +
-                            " (destroy @ " + movedDuplicate.getDestroyEra().getDisplayName() + ")");
+            GameLogger.playerAction(player.getName(), "Pulled duplicate",
+                    "from", sourceEra.getDisplayName(), "destroyEra", selectedDuplicate.getDestroyEra().getDisplayName());
         }
 
         return true;
@@ -10,6 +10,8 @@ import java.util.List;
 
 public class PushDuplicateCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     public PushDuplicateCard(String name) {
         super(name, "Push 1 duplicate to adjacent era", CardDimension.STRIPE);
     }
@@ -39,23 +41,14 @@ public class PushDuplicateCard extends ArtifactCard {
         Era prevEra = sourceEra.getPrevious();
         Era targetEra = gameState.getRifts(nextEra) <= gameState.getRifts(prevEra) ? nextEra : prevEra;
 
-        gameState.removeDuplicate(sourceEra, selectedDuplicate);
-
-        Duplicate movedDuplicate = new Duplicate(
-                selectedDuplicate.getSpawnEra(),
-                targetEra,
-                selectedDuplicate.getTurnsActive()
-        );
+        boolean stillOnBoard = gameState.moveDuplicate(sourceEra, targetEra, selectedDuplicate);
 
-        if (movedDuplicate.isAtDestructionEra()) {
-            GameLogger.playerAction(player.getName(),
-                    "Duplicate destroyed by temporal paradox at " + targetEra.getDisplayName() +
-                            " (destroy era: " + movedDuplicate.getDestroyEra().getDisplayName() + ")");
+        if (!stillOnBoard) {
+            GameLogger.playerAction(player.getName(), "Duplicate destroyed by temporal paradox",
+                    "era", targetEra.getDisplayName(), "destroyEra", selectedDuplicate.getDestroyEra().getDisplayName());
         } else {
-            gameState.addDuplicate(targetEra, movedDuplicate);
-            GameLogger.playerAction(player.getName(),
-                    "Pushed duplicate to " + targetEra.getDisplayName() +
-                            " (destroy @ " + movedDuplicate.getDestroyEra().getDisplayName() + ")");
+            GameLogger.playerAction(player.getName(), "Pushed duplicate",
+                    "era", targetEra.getDisplayName(), "destroyEra", selectedDuplicate.getDestroyEra().getDisplayName());
         }
 
         return true;
@@ -7,6 +7,8 @@ import hr.algebra.theloop.utils.GameLogger;
 
 public class RiftCard extends ArtifactCard {
 
+    private static final long serialVersionUID = 1L;
+
     private static final String REMOVE_ACTION = "Remove";
 
     public enum RiftEffect {
@@ -47,7 +49,7 @@ public class RiftCard extends ArtifactCard {
                 int riftsHere = gameState.getRifts(playerEra);
                 int actualRemoved = Math.min(riftAmount, riftsHere);
                 gameState.removeRifts(playerEra, actualRemoved);
-                GameLogger.playerAction(player.getName(), "Removed " + actualRemoved + " rifts from " + playerEra.getDisplayName());
+                GameLogger.playerAction(player.getName(), "Removed rifts", "rifts", actualRemoved, "era", playerEra.getDisplayName());
             }
             case REMOVE_FROM_ADJACENT -> {
                 Era prevEra = playerEra.getPrevious();
@@ -62,7 +64,7 @@ public class RiftCard extends ArtifactCard {
                 Era drFooEra = gameState.getDrFooPosition();
                 int actualRemoved = Math.min(riftAmount, gameState.getRifts(drFooEra));
                 gameState.removeRifts(drFooEra, actualRemoved);
-                GameLogger.playerAction(player.getName(), "Removed " + actualRemoved + " rifts from Dr. Foo's era");
+                GameLogger.playerAction(player.getName(), "Removed rifts from Dr. Foo's era", "rifts", actualRemoved);
             }
         }
         exhaust();
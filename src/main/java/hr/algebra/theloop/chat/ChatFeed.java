@@ -0,0 +1,193 @@
+package hr.algebra.theloop.chat;
+
+import hr.algebra.theloop.rmi.ChatMessage;
+import hr.algebra.theloop.rmi.ChatRemoteService;
+import hr.algebra.theloop.utils.GameLogger;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.control.TextArea;
+
+import java.rmi.RemoteException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Remote calls run on the chat executor; UI nodes are only touched on the FX thread
+public class ChatFeed {
+
+    private static final String DEGRADED_TEXT = "⚠ Chat server not responding - retrying";
+    private static final int HISTORY_PAGE_SIZE = 50;
+
+    private final ChatRemoteService chatRemoteService;
+    private final TextArea chatMessagesTextArea;
+    private final Label chatStatusLabel;
+    private final long timeoutMillis;
+
+    private final AtomicBoolean fetchInFlight = new AtomicBoolean(false);
+    private final AtomicBoolean historyInFlight = new AtomicBoolean(false);
+
+    private long lastSequence = 0;
+    private long oldestSequence = 0;
+    private boolean degraded = false;
+
+    public ChatFeed(ChatRemoteService chatRemoteService, TextArea chatMessagesTextArea,
+                    Label chatStatusLabel, long timeoutMillis) {
+        this.chatRemoteService = chatRemoteService;
+        this.chatMessagesTextArea = chatMessagesTextArea;
+        this.chatStatusLabel = chatStatusLabel;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public void poll() {
+        if (!fetchInFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        long cursor = lastSequence;
+        CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return cursor == 0
+                                ? chatRemoteService.getHistoryPage(Long.MAX_VALUE, HISTORY_PAGE_SIZE)
+                                : chatRemoteService.getMessagesSince(cursor);
+                    } catch (RemoteException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        fetchInFlight.set(false);
+                    }
+                }, ChatManager.CHAT_EXECUTOR)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((messages, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        markDegraded(error);
+                    } else {
+                        markHealthy();
+                        appendBatch(cursor, messages);
+                    }
+                }));
+    }
+
+    public void loadEarlierHistory() {
+        if (oldestSequence <= 1 || !historyInFlight.compareAndSet(false, true)) {
+            return;
+        }
+
+        long before = oldestSequence;
+        CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return chatRemoteService.getHistoryPage(before, HISTORY_PAGE_SIZE);
+                    } catch (RemoteException e) {
+                        throw new CompletionException(e);
+                    } finally {
+                        historyInFlight.set(false);
+                    }
+                }, ChatManager.CHAT_EXECUTOR)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((messages, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        markDegraded(error);
+                    } else {
+                        prependBatch(messages);
+                    }
+                }));
+    }
+
+    public CompletableFuture<Void> send(String formattedMessage) {
+        return CompletableFuture.runAsync(() -> {
+                    try {
+                        chatRemoteService.sendChatMessage(formattedMessage);
+                    } catch (RemoteException e) {
+                        throw new CompletionException(e);
+                    }
+                }, ChatManager.CHAT_EXECUTOR)
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        markDegraded(error);
+                    } else {
+                        markHealthy();
+                        poll();
+                    }
+                }));
+    }
+
+    private void appendBatch(long requestedAfter, List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (messages.get(0).getSequence() <= requestedAfter) {
+            chatMessagesTextArea.clear();
+            lastSequence = 0;
+            oldestSequence = 0;
+        }
+
+        StringBuilder appended = new StringBuilder();
+        for (ChatMessage message : messages) {
+            if (message.getSequence() > lastSequence) {
+                appended.append(message.getText()).append('\n');
+                lastSequence = message.getSequence();
+            }
+        }
+        if (oldestSequence == 0) {
+            oldestSequence = messages.get(0).getSequence();
+        }
+
+        if (!appended.isEmpty()) {
+            chatMessagesTextArea.appendText(appended.toString());
+            chatMessagesTextArea.setScrollTop(Double.MAX_VALUE);
+        }
+    }
+
+    private void prependBatch(List<ChatMessage> messages) {
+        StringBuilder prepended = new StringBuilder();
+        long oldest = oldestSequence;
+        for (ChatMessage message : messages) {
+            if (message.getSequence() < oldestSequence) {
+                prepended.append(message.getText()).append('\n');
+                oldest = Math.min(oldest, message.getSequence());
+            }
+        }
+
+        if (!prepended.isEmpty()) {
+            chatMessagesTextArea.insertText(0, prepended.toString());
+            oldestSequence = oldest;
+        }
+    }
+
+    private void markDegraded(Throwable error) {
+        if (!degraded) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            GameLogger.warning("Chat degraded: " + (cause instanceof TimeoutException
+                    ? "no response in " + timeoutMillis + " ms" : cause.getMessage()));
+        }
+        degraded = true;
+        if (chatStatusLabel != null) {
+            chatStatusLabel.setText(DEGRADED_TEXT);
+        }
+    }
+
+    private void markHealthy() {
+        if (degraded) {
+            GameLogger.gameFlow("Chat connection restored");
+        }
+        degraded = false;
+        if (chatStatusLabel != null) {
+            chatStatusLabel.setText("");
+        }
+    }
+
+    public boolean isDegraded() {
+        return degraded;
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public long getOldestSequence() {
+        return oldestSequence;
+    }
+}
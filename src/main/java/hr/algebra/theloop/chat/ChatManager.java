@@ -8,6 +8,8 @@ import hr.algebra.theloop.utils.GameLogger;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
 import javafx.scene.control.TextArea;
 import javafx.scene.control.TextField;
 import javafx.util.Duration;
@@ -18,13 +20,28 @@ import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 public class ChatManager {
 
+    static final ExecutorService CHAT_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ChatIO-", 0).factory());
+
+    private static final String RMI_RESPONSE_TIMEOUT_PROPERTY = "sun.rmi.transport.tcp.responseTimeout";
+    private static final long CHAT_TIMEOUT_MILLIS =
+            ConfigurationReader.getIntegerValueForKey(ConfigurationKey.CONNECTION_TIMEOUT);
+
     private ChatManager() {}
 
     public static ChatRemoteService connectToChatService() throws RemoteException, NotBoundException {
+        if (System.getProperty(RMI_RESPONSE_TIMEOUT_PROPERTY) == null) {
+            System.setProperty(RMI_RESPONSE_TIMEOUT_PROPERTY, String.valueOf(CHAT_TIMEOUT_MILLIS));
+        }
+
         String hostname = ConfigurationReader.getStringValueForKey(ConfigurationKey.HOSTNAME);
         int rmiPort = ConfigurationReader.getIntegerValueForKey(ConfigurationKey.RMI_PORT);
 
@@ -32,34 +49,39 @@ public class ChatManager {
         return (ChatRemoteService) registry.lookup(ChatRemoteService.CHAT_REMOTE_OBJECT_NAME);
     }
 
-    public static void createAndRunChatTimeline(ChatRemoteService chatRemoteService,
-                                                TextArea chatMessagesTextArea) {
-        Timeline clock = new Timeline(new KeyFrame(Duration.ZERO, e -> {
+    public static CompletableFuture<ChatRemoteService> connectToChatServiceAsync() {
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                List<String> chatMessages = chatRemoteService.getAllChatMessages();
-
-                chatMessagesTextArea.clear();
-
-                for (String chatMessage : chatMessages) {
-                    chatMessagesTextArea.appendText(chatMessage + "\n");
-                }
+                return connectToChatService();
+            } catch (RemoteException | NotBoundException e) {
+                throw new CompletionException(e);
+            }
+        }, CHAT_EXECUTOR).orTimeout(CHAT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    }
 
-                chatMessagesTextArea.setScrollTop(Double.MAX_VALUE);
+    public static ChatFeed createAndRunChatTimeline(ChatRemoteService chatRemoteService,
+                                                    TextArea chatMessagesTextArea,
+                                                    Label chatStatusLabel) {
+        ChatFeed chatFeed = new ChatFeed(chatRemoteService, chatMessagesTextArea, chatStatusLabel, CHAT_TIMEOUT_MILLIS);
 
-            } catch (RemoteException ex) {
-                GameLogger.error("Chat service connection failed: " + ex.getMessage());
+        chatMessagesTextArea.scrollTopProperty().addListener((observable, oldTop, newTop) -> {
+            if (newTop.doubleValue() <= 0 && oldTop.doubleValue() > 0) {
+                chatFeed.loadEarlierHistory();
             }
-        }), new KeyFrame(Duration.seconds(1)));
+        });
+
+        Timeline clock = new Timeline(new KeyFrame(Duration.ZERO, e -> chatFeed.poll()),
+                new KeyFrame(Duration.seconds(1)));
 
         clock.setCycleCount(Animation.INDEFINITE);
         clock.play();
 
         GameLogger.gameFlow("🎯 Chat timeline started - polling every second");
+        return chatFeed;
     }
 
     public static void sendChatMessage(TextField chatMessagesTextField,
-                                       TextArea chatMessagesTextArea,
-                                       ChatRemoteService chatRemoteService,
+                                       ChatFeed chatFeed,
                                        PlayerMode playerMode,
                                        String playerName) {
         String messageText = chatMessagesTextField.getText();
@@ -68,26 +90,23 @@ public class ChatManager {
             return;
         }
 
-        try {
-            String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
-            String formattedMessage = String.format("[%s] %s: %s",
-                    timestamp, playerName, messageText.trim());
-
-            chatRemoteService.sendChatMessage(formattedMessage);
-
-            chatMessagesTextField.clear();
-
-            List<String> chatMessages = chatRemoteService.getAllChatMessages();
-            chatMessagesTextArea.clear();
-            for (String chatMessage : chatMessages) {
-                chatMessagesTextArea.appendText(chatMessage + "\n");
+        String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm"));
+        String formattedMessage = String.format("[%s] %s: %s",
+                timestamp, playerName, messageText.trim());
+
+        chatMessagesTextField.clear();
+
+        chatFeed.send(formattedMessage).whenComplete((ignored, error) -> {
+            if (error != null) {
+                GameLogger.error("Failed to send chat message: " + error.getMessage());
+                Platform.runLater(() -> {
+                    if (chatMessagesTextField.getText().isEmpty()) {
+                        chatMessagesTextField.setText(messageText);
+                    }
+                });
+            } else {
+                GameLogger.gameFlow("💬 " + playerName + " sent: " + messageText);
             }
-            chatMessagesTextArea.setScrollTop(Double.MAX_VALUE);
-
-            GameLogger.gameFlow("💬 " + playerName + " sent: " + messageText);
-
-        } catch (RemoteException e) {
-            GameLogger.error("Failed to send chat message: " + e.getMessage());
-        }
+        });
     }
-}
\ No newline at end of file
+}
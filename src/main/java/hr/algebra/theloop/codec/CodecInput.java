@@ -0,0 +1,94 @@
+package hr.algebra.theloop.codec;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class CodecInput {
+
+    private static final int MAX_STRING_BYTES = 64 * 1024;
+
+    private final DataInput input;
+
+    public CodecInput(DataInput input) {
+        this.input = input;
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varlong");
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readLong() throws IOException {
+        return input.readLong();
+    }
+
+    public boolean readBoolean() throws IOException {
+        return input.readUnsignedByte() != 0;
+    }
+
+    public int readByte() throws IOException {
+        return input.readUnsignedByte();
+    }
+
+    public int readInt() throws IOException {
+        return input.readInt();
+    }
+
+    public <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int encoded = readVarInt();
+        if (encoded == 0) {
+            return null;
+        }
+        if (encoded > values.length) {
+            throw new IOException("Unknown ordinal " + (encoded - 1) + " for " + values[0].getDeclaringClass().getSimpleName());
+        }
+        return values[encoded - 1];
+    }
+
+    public String readString() throws IOException {
+        int encoded = readVarInt();
+        if (encoded == 0) {
+            return null;
+        }
+        if (encoded - 1 > MAX_STRING_BYTES) {
+            throw new IOException("String too long: " + (encoded - 1));
+        }
+
+        byte[] bytes = new byte[encoded - 1];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int readCount(int max) throws IOException {
+        int count = readVarInt();
+        if (count < 0 || count > max) {
+            throw new IOException("Invalid element count: " + count);
+        }
+        return count;
+    }
+}
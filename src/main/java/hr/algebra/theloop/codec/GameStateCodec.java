@@ -0,0 +1,485 @@
+package hr.algebra.theloop.codec;
+
+import hr.algebra.theloop.cards.ArtifactCard;
+import hr.algebra.theloop.cards.CardFactory;
+import hr.algebra.theloop.missions.EnergySurgeMission;
+import hr.algebra.theloop.missions.HuntDuplicatesMission;
+import hr.algebra.theloop.missions.Mission;
+import hr.algebra.theloop.missions.StabilizeEraMission;
+import hr.algebra.theloop.model.*;
+import hr.algebra.theloop.model.NetworkGameState.DuplicateInfo;
+import hr.algebra.theloop.model.NetworkGameState.MissionData;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GameStateCodec {
+
+    public static final int MAGIC = 0x544C4F50;
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int GAME_STATE_RECORD = 1;
+    private static final int NETWORK_STATE_RECORD = 2;
+
+    private static final int STABILIZE_MISSION = 0;
+    private static final int ENERGY_MISSION = 1;
+    private static final int HUNT_MISSION = 2;
+
+    private static final int MAX_CARDS = 256;
+    private static final int MAX_MISSIONS = 256;
+    private static final int MAX_PLAYERS = 16;
+
+    private static final Era[] ERAS = Era.values();
+    private static final int ALL_ERAS_MASK = (1 << ERAS.length) - 1;
+    private static final GameResult[] GAME_RESULTS = GameResult.values();
+    private static final PlayerMode[] PLAYER_MODES = PlayerMode.values();
+
+    private GameStateCodec() {
+    }
+
+    public static byte[] encode(NetworkGameState networkState) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        CodecOutput output = new CodecOutput(new DataOutputStream(bytes));
+        writeHeader(output, NETWORK_STATE_RECORD);
+        writeNetworkState(output, networkState);
+        return bytes.toByteArray();
+    }
+
+    public static NetworkGameState decodeNetworkState(byte[] payload) throws IOException {
+        CodecInput input = new CodecInput(new DataInputStream(new ByteArrayInputStream(payload)));
+        readHeader(input, NETWORK_STATE_RECORD);
+        return readNetworkState(input);
+    }
+
+    public static void writeGameState(GameState gameState, OutputStream stream) throws IOException {
+        DataOutputStream dataOutput = new DataOutputStream(stream);
+        CodecOutput output = new CodecOutput(dataOutput);
+        writeHeader(output, GAME_STATE_RECORD);
+        writeGameState(output, gameState);
+        dataOutput.flush();
+    }
+
+    public static GameState readGameState(InputStream stream) throws IOException {
+        CodecInput input = new CodecInput(new DataInputStream(stream));
+        readHeader(input, GAME_STATE_RECORD);
+        return readGameState(input);
+    }
+
+    private static void writeHeader(CodecOutput output, int recordType) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeVarInt(FORMAT_VERSION);
+        output.writeByte(recordType);
+    }
+
+    private static void readHeader(CodecInput input, int expectedRecordType) throws IOException {
+        int magic = input.readInt();
+        if (magic != MAGIC) {
+            throw new IOException("Not a game state record (magic " + Integer.toHexString(magic) + ")");
+        }
+
+        int version = input.readVarInt();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IOException("Unsupported codec version: " + version);
+        }
+
+        int recordType = input.readByte();
+        if (recordType != expectedRecordType) {
+            throw new IOException("Unexpected record type: " + recordType);
+        }
+    }
+
+    private static void writeNetworkState(CodecOutput output, NetworkGameState state) throws IOException {
+        output.writeVarLong(state.getVersion());
+        output.writeSignedVarLong(state.getBaseVersion());
+
+        output.writeVarInt(state.getTurnNumber());
+        output.writeEnum(state.getDrFooPosition());
+        output.writeVarInt(state.getCurrentCycle());
+        output.writeBoolean(state.isGameOver());
+        output.writeEnum(state.getGameResult());
+        output.writeVarInt(state.getTotalMissionsCompleted());
+        output.writeVarInt(state.getCurrentPlayerIndex());
+        output.writeEnum(state.getActivePlayerMode());
+        output.writeString(state.getLastAction());
+        output.writeString(state.getLastPlayerName());
+
+        int changedEras = Integer.bitCount(state.getChangedEraMask());
+        output.writeVarInt(state.getChangedEraMask());
+        for (int i = 0; i < changedEras; i++) {
+            output.writeVarInt(state.getRiftsPerEra()[i]);
+            output.writeVarInt(state.getEnergyPerEra()[i]);
+            output.writeBoolean(state.getVortexPerEra()[i]);
+
+            List<DuplicateInfo> duplicates = state.getDuplicateDetails().get(i);
+            output.writeVarInt(duplicates.size());
+            for (DuplicateInfo duplicate : duplicates) {
+                output.writeVarInt(duplicate.getId());
+                output.writeEnum(duplicate.getSpawnEra());
+                output.writeEnum(duplicate.getCurrentEra());
+                output.writeVarInt(duplicate.getTurnsActive());
+            }
+        }
+
+        writeMissionDataList(output, state.getActiveMissions());
+        writeMissionDataList(output, state.getCompletedMissions());
+
+        output.writeVarInt(state.getPlayerCount());
+        output.writeVarInt(state.getChangedPlayerMask());
+        writePlayerDataList(output, state.getPlayerStates());
+    }
+
+    private static NetworkGameState readNetworkState(CodecInput input) throws IOException {
+        long version = input.readVarLong();
+        long baseVersion = input.readSignedVarLong();
+
+        int turnNumber = input.readVarInt();
+        Era drFooPosition = input.readEnum(ERAS);
+        int currentCycle = input.readVarInt();
+        boolean gameOver = input.readBoolean();
+        GameResult gameResult = input.readEnum(GAME_RESULTS);
+        int totalMissionsCompleted = input.readVarInt();
+        int currentPlayerIndex = input.readVarInt();
+        PlayerMode playerMode = input.readEnum(PLAYER_MODES);
+        String lastAction = input.readString();
+        String lastPlayerName = input.readString();
+
+        int changedEraMask = input.readVarInt();
+        if ((changedEraMask & ~ALL_ERAS_MASK) != 0) {
+            throw new IOException("Invalid era mask: " + changedEraMask);
+        }
+
+        int changedEras = Integer.bitCount(changedEraMask);
+        int[] rifts = new int[changedEras];
+        int[] energy = new int[changedEras];
+        boolean[] vortex = new boolean[changedEras];
+        int[] duplicateCounts = new int[changedEras];
+        List<List<DuplicateInfo>> duplicateDetails = new ArrayList<>(changedEras);
+
+        for (int i = 0; i < changedEras; i++) {
+            rifts[i] = input.readVarInt();
+            energy[i] = input.readVarInt();
+            vortex[i] = input.readBoolean();
+
+            int count = input.readCount(GameResources.DUPLICATE_BAG_SIZE);
+            List<DuplicateInfo> duplicates = new ArrayList<>(count);
+            for (int d = 0; d < count; d++) {
+                int id = input.readVarInt();
+                Era spawnEra = input.readEnum(ERAS);
+                Era currentEra = input.readEnum(ERAS);
+                int turnsActive = input.readVarInt();
+                duplicates.add(new DuplicateInfo(id, spawnEra, spawnEra.getOpposite(), currentEra, turnsActive));
+            }
+            duplicateCounts[i] = count;
+            duplicateDetails.add(duplicates);
+        }
+
+        List<MissionData> activeMissions = readMissionDataList(input);
+        List<MissionData> completedMissions = readMissionDataList(input);
+
+        int playerCount = input.readCount(MAX_PLAYERS);
+        int changedPlayerMask = input.readVarInt();
+        List<PlayerData> playerStates = readPlayerDataList(input);
+        validatePlayers(playerCount, changedPlayerMask, playerStates);
+
+        if (baseVersion == NetworkGameState.FULL_SNAPSHOT
+                && (changedEraMask != ALL_ERAS_MASK || changedPlayerMask != allPlayersMask(playerCount))) {
+            throw new IOException("Full snapshot does not cover every era and player");
+        }
+
+        return new NetworkGameState(
+                turnNumber, drFooPosition, currentCycle, gameOver, gameResult,
+                rifts, energy, vortex, duplicateCounts, duplicateDetails,
+                playerStates, currentPlayerIndex, playerMode, lastAction, lastPlayerName,
+                activeMissions, completedMissions, totalMissionsCompleted,
+                version, baseVersion, changedEraMask, changedPlayerMask, playerCount
+        );
+    }
+
+    // Player i is sent exactly when bit i is set
+    private static void validatePlayers(int playerCount, int changedPlayerMask, List<PlayerData> playerStates)
+            throws IOException {
+        if ((changedPlayerMask & ~allPlayersMask(playerCount)) != 0) {
+            throw new IOException("Player mask " + Integer.toBinaryString(changedPlayerMask)
+                    + " exceeds player count " + playerCount);
+        }
+
+        int sent = playerStates == null ? 0 : playerStates.size();
+        if (Integer.bitCount(changedPlayerMask) != sent) {
+            throw new IOException("Player mask " + Integer.toBinaryString(changedPlayerMask)
+                    + " does not match " + sent + " player states");
+        }
+    }
+
+    private static int allPlayersMask(int playerCount) {
+        return (1 << playerCount) - 1;
+    }
+
+    private static void writeGameState(CodecOutput output, GameState gameState) throws IOException {
+        output.writeLong(gameState.getRandomSeed());
+        output.writeVarInt(gameState.getTurnNumber());
+        output.writeEnum(gameState.getDrFooPosition());
+        output.writeVarInt(gameState.getDrFooMovesThisCycle());
+        output.writeVarInt(gameState.getCurrentCycle());
+        output.writeBoolean(gameState.isGameOver());
+        output.writeEnum(gameState.getGameResult());
+        output.writeVarInt(gameState.getTotalMissionsCompleted());
+        output.writeVarInt(gameState.getCurrentPlayerIndex());
+
+        GameResources resources = gameState.getResources();
+        int vortexMask = 0;
+        for (Era era : ERAS) {
+            output.writeVarInt(resources.getRifts(era));
+            output.writeVarInt(resources.getEnergy(era));
+            if (resources.hasVortex(era)) {
+                vortexMask |= 1 << era.ordinal();
+            }
+
+            List<Duplicate> duplicates = resources.getDuplicatesAt(era);
+            output.writeVarInt(duplicates.size());
+            for (Duplicate duplicate : duplicates) {
+                output.writeVarInt(duplicate.getId());
+                output.writeEnum(duplicate.getSpawnEra());
+                output.writeVarInt(duplicate.getTurnsActive());
+            }
+        }
+        output.writeVarInt(vortexMask);
+
+        writeMissionList(output, gameState.getActiveMissions());
+        writeMissionList(output, gameState.getCompletedMissions());
+        writePlayerDataList(output, gameState.getPlayerStates());
+    }
+
+    private static GameState readGameState(CodecInput input) throws IOException {
+        GameState gameState = new GameState();
+
+        gameState.setRandomSeed(input.readLong());
+        gameState.setTurnNumber(input.readVarInt());
+        gameState.setDrFooPosition(requireEra(input.readEnum(ERAS)));
+        gameState.setDrFooMovesThisCycle(input.readVarInt());
+        gameState.setCurrentCycle(input.readVarInt());
+        gameState.setGameOver(input.readBoolean());
+        gameState.setGameResult(input.readEnum(GAME_RESULTS));
+        gameState.setTotalMissionsCompleted(input.readVarInt());
+        gameState.setCurrentPlayerIndex(input.readVarInt());
+
+        GameResources resources = gameState.getResources();
+        for (Era era : ERAS) {
+            resources.setRifts(era, input.readVarInt());
+            resources.setEnergy(era, input.readVarInt());
+
+            int count = input.readCount(GameResources.DUPLICATE_BAG_SIZE);
+            for (int d = 0; d < count; d++) {
+                int id = input.readVarInt();
+                Era spawnEra = requireEra(input.readEnum(ERAS));
+                resources.restoreDuplicate(era, id, spawnEra, input.readVarInt());
+            }
+        }
+
+        int vortexMask = input.readVarInt();
+        for (Era era : ERAS) {
+            resources.setVortex(era, (vortexMask & (1 << era.ordinal())) != 0);
+        }
+
+        gameState.getActiveMissions().addAll(readMissionList(input));
+        gameState.getCompletedMissions().addAll(readMissionList(input));
+
+        List<PlayerData> playerStates = readPlayerDataList(input);
+        gameState.setPlayerStates(playerStates != null ? playerStates : new ArrayList<>());
+
+        return gameState;
+    }
+
+    public static void writePlayerData(CodecOutput output, PlayerData playerData) throws IOException {
+        output.writeString(playerData.getName());
+        output.writeEnum(playerData.getCurrentEra());
+        output.writeString(playerData.getAgentIcon());
+
+        writeCards(output, playerData.getHand());
+        writeCards(output, playerData.getDeck());
+        writeCards(output, playerData.getDiscardPile());
+
+        output.writeBoolean(playerData.isBatteriesFull());
+        output.writeVarInt(playerData.getLoopsPerformedThisTurn());
+        output.writeBoolean(playerData.isCurrentPlayer());
+        output.writeVarInt(playerData.getCardsPlayed());
+        output.writeVarInt(playerData.getEnergySpent());
+        output.writeVarInt(playerData.getRiftsRemoved());
+        output.writeVarInt(playerData.getMissionsContributed());
+        output.writeLong(playerData.getStateSignature());
+    }
+
+    public static PlayerData readPlayerData(CodecInput input) throws IOException {
+        return new PlayerData(
+                input.readString(),
+                requireEra(input.readEnum(ERAS)),
+                input.readString(),
+                readCards(input),
+                readCards(input),
+                readCards(input),
+                input.readBoolean(),
+                input.readVarInt(),
+                input.readBoolean(),
+                input.readVarInt(),
+                input.readVarInt(),
+                input.readVarInt(),
+                input.readVarInt(),
+                input.readLong()
+        );
+    }
+
+    private static void writePlayerDataList(CodecOutput output, List<PlayerData> players) throws IOException {
+        if (players == null) {
+            output.writeVarInt(0);
+            return;
+        }
+
+        output.writeVarInt(players.size() + 1);
+        for (PlayerData playerData : players) {
+            writePlayerData(output, playerData);
+        }
+    }
+
+    private static List<PlayerData> readPlayerDataList(CodecInput input) throws IOException {
+        int encoded = input.readCount(MAX_PLAYERS + 1);
+        if (encoded == 0) {
+            return null;
+        }
+
+        List<PlayerData> players = new ArrayList<>(encoded - 1);
+        for (int i = 0; i < encoded - 1; i++) {
+            players.add(readPlayerData(input));
+        }
+        return players;
+    }
+
+    // Each card is its type id with the exhausted flag in the low bit
+    private static void writeCards(CodecOutput output, List<ArtifactCard> cards) throws IOException {
+        output.writeVarInt(cards.size());
+        for (ArtifactCard card : cards) {
+            int typeId = CardFactory.getCardTypeId(card);
+            if (typeId < 0) {
+                throw new IOException("Card has no type id: " + card.getName());
+            }
+            output.writeVarInt(typeId << 1 | (card.isExhausted() ? 1 : 0));
+        }
+    }
+
+    private static List<ArtifactCard> readCards(CodecInput input) throws IOException {
+        int count = input.readCount(MAX_CARDS);
+        List<ArtifactCard> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int encoded = input.readVarInt();
+            ArtifactCard card = createCard(encoded >>> 1);
+            if ((encoded & 1) != 0) {
+                card.exhaust();
+            }
+            cards.add(card);
+        }
+        return cards;
+    }
+
+    private static ArtifactCard createCard(int typeId) throws IOException {
+        try {
+            return CardFactory.createCardByTypeId(typeId);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static void writeMissionList(CodecOutput output, List<Mission> missions) throws IOException {
+        output.writeVarInt(missions.size());
+        for (Mission mission : missions) {
+            output.writeByte(missionTypeOf(mission));
+            output.writeEnum(mission.getAssignedEra());
+            output.writeVarInt(mission.getCurrentProgress());
+            output.writeBoolean(mission.isCompleted());
+
+            if (mission instanceof StabilizeEraMission stabilize) {
+                output.writeVarInt(stabilize.getRiftsRemovedByPlayer());
+                output.writeBoolean(stabilize.hasPlayerWorked());
+            }
+        }
+    }
+
+    private static List<Mission> readMissionList(CodecInput input) throws IOException {
+        int count = input.readCount(MAX_MISSIONS);
+        List<Mission> missions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Mission mission = readMission(input);
+            if (mission instanceof StabilizeEraMission stabilize) {
+                stabilize.restorePlayerWork(input.readVarInt(), input.readBoolean());
+            }
+            missions.add(mission);
+        }
+        return missions;
+    }
+
+    private static void writeMissionDataList(CodecOutput output, List<MissionData> missions) throws IOException {
+        if (missions == null) {
+            output.writeVarInt(0);
+            return;
+        }
+
+        output.writeVarInt(missions.size() + 1);
+        for (MissionData mission : missions) {
+            output.writeByte(missionTypeOf(mission.getMissionType()));
+            output.writeEnum(mission.getAssignedEra());
+            output.writeVarInt(mission.getCurrentProgress());
+            output.writeBoolean(mission.isCompleted());
+        }
+    }
+
+    private static List<MissionData> readMissionDataList(CodecInput input) throws IOException {
+        int encoded = input.readCount(MAX_MISSIONS + 1);
+        if (encoded == 0) {
+            return null;
+        }
+
+        List<MissionData> missions = new ArrayList<>(encoded - 1);
+        for (int i = 0; i < encoded - 1; i++) {
+            missions.add(MissionData.fromMission(readMission(input)));
+        }
+        return missions;
+    }
+
+    private static Mission readMission(CodecInput input) throws IOException {
+        int type = input.readByte();
+        Era era = input.readEnum(ERAS);
+
+        Mission mission = switch (type) {
+            case STABILIZE_MISSION -> new StabilizeEraMission(requireEra(era));
+            case ENERGY_MISSION -> new EnergySurgeMission(requireEra(era));
+            case HUNT_MISSION -> new HuntDuplicatesMission();
+            default -> throw new IOException("Unknown mission type: " + type);
+        };
+
+        mission.setCurrentProgress(input.readVarInt());
+        mission.setCompleted(input.readBoolean());
+        return mission;
+    }
+
+    private static int missionTypeOf(Mission mission) {
+        if (mission instanceof StabilizeEraMission) {
+            return STABILIZE_MISSION;
+        } else if (mission instanceof EnergySurgeMission) {
+            return ENERGY_MISSION;
+        }
+        return HUNT_MISSION;
+    }
+
+    private static int missionTypeOf(String missionType) {
+        return switch (missionType) {
+            case "STABILIZE" -> STABILIZE_MISSION;
+            case "ENERGY" -> ENERGY_MISSION;
+            default -> HUNT_MISSION;
+        };
+    }
+
+    private static Era requireEra(Era era) throws IOException {
+        if (era == null) {
+            throw new IOException("Missing era");
+        }
+        return era;
+    }
+}
@@ -7,6 +7,7 @@ import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.model.PlayerMode;
 import hr.algebra.theloop.persistence.GamePersistenceManager;
 import hr.algebra.theloop.thread.ThreadingManager;
+import hr.algebra.theloop.ui.FxUIUpdateDispatcher;
 import hr.algebra.theloop.ui.GameUIManager;
 import hr.algebra.theloop.ui.MultiplayerUIHelper;
 import hr.algebra.theloop.ui.PlayerHandManager;
@@ -17,6 +18,8 @@ import javafx.scene.control.TextInputDialog;
 import javafx.stage.Stage;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public class GameActionsHandler {
 
@@ -80,24 +83,28 @@ public class GameActionsHandler {
         }
     }
 
-    public GameEngine handleLoadGame(Button referenceButton) {
-        try {
-            GameState loadedState = loadGameStateFromDialog(referenceButton);
+    public void handleLoadGame(Button referenceButton, Consumer<GameEngine> onLoaded) {
+        loadGameStateFromDialog(referenceButton).thenAccept(loadedState -> {
             if (loadedState != null) {
-                shutdownCurrentGameSafely();
+                FxUIUpdateDispatcher.INSTANCE.dispatch(() -> applyLoadedGame(loadedState, onLoaded));
+            }
+        });
+    }
 
-                GameEngine newGameEngine = new GameEngine();
-                newGameEngine.restoreFromGameState(loadedState);
+    private void applyLoadedGame(GameState loadedState, Consumer<GameEngine> onLoaded) {
+        try {
+            shutdownCurrentGameSafely();
 
-                setupAfterLoadGame(newGameEngine);
+            GameEngine newGameEngine = new GameEngine(FxUIUpdateDispatcher.INSTANCE, loadedState.getRandomSeed());
+            newGameEngine.restoreFromGameState(loadedState);
 
-                GameLogger.gameFlow("Game loaded successfully");
-                return newGameEngine;
-            }
+            setupAfterLoadGame(newGameEngine);
+
+            GameLogger.gameFlow("Game loaded successfully");
+            onLoaded.accept(newGameEngine);
         } catch (Exception e) {
             GameLogger.error("Failed to load game: " + e.getMessage());
         }
-        return null;
     }
 
     private void setupAfterLoadGame(GameEngine newGameEngine) {
@@ -116,7 +123,7 @@ public class GameActionsHandler {
         triggerUIUpdate();
     }
 
-    private GameState loadGameStateFromDialog(Button referenceButton) {
+    private CompletableFuture<GameState> loadGameStateFromDialog(Button referenceButton) {
         Stage stage = (Stage) referenceButton.getScene().getWindow();
         return GamePersistenceManager.loadGameFromDialog(stage);
     }
@@ -141,7 +148,7 @@ public class GameActionsHandler {
         String playerModeStr = System.getProperty("playerMode", "SINGLE_PLAYER");
         PlayerMode playerMode = PlayerMode.valueOf(playerModeStr);
 
-        GameEngine newGameEngine = new GameEngine();
+        GameEngine newGameEngine = new GameEngine(FxUIUpdateDispatcher.INSTANCE);
         newGameEngine.setPlayerMode(playerMode);
         newGameEngine.setupMultiplayerPlayers(playerMode);
         newGameEngine.setUIUpdateCallback(uiUpdateCallback);
@@ -1,5 +1,6 @@
 package hr.algebra.theloop.controller;
 
+import hr.algebra.theloop.chat.ChatFeed;
 import hr.algebra.theloop.chat.ChatManager;
 import hr.algebra.theloop.engine.GameEngine;
 import hr.algebra.theloop.input.PlayerInputHandler;
@@ -7,20 +8,20 @@ import hr.algebra.theloop.model.Player;
 import hr.algebra.theloop.model.PlayerMode;
 import hr.algebra.theloop.rmi.ChatRemoteService;
 import hr.algebra.theloop.thread.ThreadingManager;
+import hr.algebra.theloop.ui.FxUIUpdateDispatcher;
 import hr.algebra.theloop.ui.GameUIManager;
 import hr.algebra.theloop.ui.MultiplayerUIHelper;
 import hr.algebra.theloop.ui.PlayerHandManager;
 import hr.algebra.theloop.utils.DocumentationUtils;
 import hr.algebra.theloop.utils.GameLogger;
 import hr.algebra.theloop.view.CircularBoardView;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.layout.VBox;
 
 import java.net.URL;
-import java.rmi.NotBoundException;
-import java.rmi.RemoteException;
 import java.util.ResourceBundle;
 
 public class MainGameController implements Initializable {
@@ -53,6 +54,7 @@ public class MainGameController implements Initializable {
 
     @FXML private VBox chatContainer;
     @FXML private TextArea chatArea;
+    @FXML private Label chatStatusLabel;
     @FXML private TextField chatTextField;
 
     private GameEngine gameEngine;
@@ -64,6 +66,7 @@ public class MainGameController implements Initializable {
     private boolean gameRunning;
     private MultiplayerUIHelper multiplayerHelper;
     private ChatRemoteService chatRemoteService;
+    private ChatFeed chatFeed;
     private ConfigurationController configController;
 
     @Override
@@ -76,7 +79,7 @@ public class MainGameController implements Initializable {
     }
 
     private void initializeGame() {
-        gameEngine = new GameEngine();
+        gameEngine = new GameEngine(FxUIUpdateDispatcher.INSTANCE);
 
         String playerModeStr = System.getProperty(PLAYER_MODE_PROPERTY, SINGLE_PLAYER_MODE);
         PlayerMode playerMode = PlayerMode.valueOf(playerModeStr);
@@ -125,14 +128,16 @@ public class MainGameController implements Initializable {
 
     private void initializeChat() {
         if (gameEngine.getPlayerMode() != PlayerMode.SINGLE_PLAYER) {
-            try {
-                chatRemoteService = ChatManager.connectToChatService();
-                ChatManager.createAndRunChatTimeline(chatRemoteService, chatArea);
+            ChatManager.connectToChatServiceAsync().whenComplete((service, error) -> Platform.runLater(() -> {
+                if (error != null) {
+                    GameLogger.warning("Chat service not available: " + error.getMessage());
+                    hideChatUI();
+                    return;
+                }
+                chatRemoteService = service;
+                chatFeed = ChatManager.createAndRunChatTimeline(chatRemoteService, chatArea, chatStatusLabel);
                 chatTextField.setOnAction(e -> sendChatMessage());
-            } catch (RemoteException | NotBoundException e) {
-                GameLogger.warning("Chat service not available: " + e.getMessage());
-                hideChatUI();
-            }
+            }));
         } else {
             hideChatUI();
         }
@@ -182,10 +187,9 @@ public class MainGameController implements Initializable {
     }
 
     @FXML private void sendChatMessage() {
-        if (chatRemoteService != null && gameEngine.getPlayerMode() != PlayerMode.SINGLE_PLAYER) {
+        if (chatFeed != null && gameEngine.getPlayerMode() != PlayerMode.SINGLE_PLAYER) {
             String playerName = gameEngine.getLocalPlayer().getName();
-            ChatManager.sendChatMessage(chatTextField, chatArea, chatRemoteService,
-                    gameEngine.getPlayerMode(), playerName);
+            ChatManager.sendChatMessage(chatTextField, chatFeed, gameEngine.getPlayerMode(), playerName);
         }
     }
 
@@ -226,10 +230,7 @@ public class MainGameController implements Initializable {
     @FXML private void loadGame() {
         if (!gameRunning) return;
 
-        GameEngine newEngine = actionsHandler.handleLoadGame(endTurnButton);
-        if (newEngine != null) {
-            updateAfterLoad(newEngine);
-        }
+        actionsHandler.handleLoadGame(endTurnButton, this::updateAfterLoad);
     }
 
     private void updateAfterLoad(GameEngine newEngine) {
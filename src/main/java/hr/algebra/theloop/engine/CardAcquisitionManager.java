@@ -7,14 +7,15 @@ import hr.algebra.theloop.model.GameState;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
 
 public class CardAcquisitionManager {
 
-    private final Random random;
+    private final RandomGenerator random;
     private final Map<Era, List<ArtifactCard>> availableCards;
     private static final int MAX_CARDS_PER_ERA = 2;
 
-    public CardAcquisitionManager(Random random) {
+    public CardAcquisitionManager(RandomGenerator random) {
         this.random = random;
         this.availableCards = new ConcurrentHashMap<>();
 
@@ -26,7 +27,7 @@ public class CardAcquisitionManager {
     public void initializeAvailableCards(GameState gameState) {
         for (Era era : Era.values()) {
             if (!gameState.hasVortex(era)) {
-                ArtifactCard newCard = CardFactory.createRandomCard();
+                ArtifactCard newCard = CardFactory.createRandomCard(random);
                 availableCards.get(era).add(newCard);
             }
         }
@@ -46,7 +47,7 @@ public class CardAcquisitionManager {
 
         for (int i = 0; i < cardsPerTurn && !availableEras.isEmpty(); i++) {
             Era randomEra = availableEras.get(random.nextInt(availableEras.size()));
-            ArtifactCard newCard = CardFactory.createRandomCard();
+            ArtifactCard newCard = CardFactory.createRandomCard(random);
 
             availableCards.get(randomEra).add(newCard);
 
@@ -1,21 +1,23 @@
 package hr.algebra.theloop.engine;
 
 import hr.algebra.theloop.config.ConfigurationManager;
+import hr.algebra.theloop.jfr.DrFooPhaseEvent;
 import hr.algebra.theloop.model.Duplicate;
 import hr.algebra.theloop.model.Era;
 import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.model.GameResult;
 import hr.algebra.theloop.utils.GameLogger;
+import hr.algebra.theloop.utils.LogCategory;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class DrFooAI {
 
-    private final Random random;
+    private final RandomGenerator random;
     private final GameEngine gameEngine;
     private final ConfigurationManager configManager;
 
-    public DrFooAI(Random random, GameEngine gameEngine) {
+    public DrFooAI(RandomGenerator random, GameEngine gameEngine) {
         this.random = random;
         this.gameEngine = gameEngine;
         this.configManager = ConfigurationManager.getInstance();
@@ -25,11 +27,16 @@ public class DrFooAI {
     public void executeDrFooPhase(GameState gameState) {
         GameLogger.drFoo("Phase begins");
 
+        DrFooPhaseEvent phaseEvent = new DrFooPhaseEvent();
+        phaseEvent.begin();
+
         spawnDuplicates(gameState);
         moveDrFoo(gameState);
         dropRifts(gameState);
         ageDuplicates(gameState);
         checkDefeatConditions(gameState);
+
+        phaseEvent.complete(gameState.getDrFooPosition().name(), gameState.getTurnNumber(), gameState.getCurrentCycle());
     }
 
     private void spawnDuplicates(GameState gameState) {
@@ -43,7 +50,7 @@ public class DrFooAI {
                 GameLogger.warning("Cannot spawn duplicate - bag empty");
                 break;
             } else {
-                GameLogger.drFoo("Spawned duplicate at " + spawnEra.getDisplayName());
+                GameLogger.log(LogCategory.DR_FOO, "Spawned duplicate", "era", spawnEra);
             }
         }
     }
@@ -70,7 +77,7 @@ public class DrFooAI {
         gameState.moveDrFoo();
         Era newPosition = gameState.getDrFooPosition();
 
-        GameLogger.drFoo("Moves: " + oldPosition.getDisplayName() + " → " + newPosition.getDisplayName());
+        GameLogger.log(LogCategory.DR_FOO, "Moves", "from", oldPosition, "to", newPosition);
     }
 
     private void dropRifts(GameState gameState) {
@@ -78,7 +85,7 @@ public class DrFooAI {
         int duplicatesHere = gameState.getDuplicateCount(drFooEra);
         int totalRifts = 2 + duplicatesHere;
 
-        GameLogger.drFoo("Dropping " + totalRifts + " rifts (2 base + " + duplicatesHere + " duplicates)");
+        GameLogger.log(LogCategory.DR_FOO, "Dropping rifts", "rifts", totalRifts, "duplicates", duplicatesHere);
         simulateCubeTower(gameState, drFooEra, totalRifts);
     }
 
@@ -99,11 +106,11 @@ public class DrFooAI {
         int currentRifts = gameState.getRifts(era);
 
         if (currentRifts >= 3) {
-            GameLogger.warning("VORTEX created at " + era.getDisplayName());
+            GameLogger.log(LogCategory.WARNING, "VORTEX created", "era", era);
             gameState.createVortex(era);
         } else {
             gameState.addRifts(era, 1);
-            GameLogger.drFoo("Added 1 rift to " + era.getDisplayName() + " (" + (currentRifts + 1) + "/3)");
+            GameLogger.log(LogCategory.DR_FOO, "Added rift", "era", era, "rifts", currentRifts + 1);
         }
     }
 
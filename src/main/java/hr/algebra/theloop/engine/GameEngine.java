@@ -1,16 +1,31 @@
 package hr.algebra.theloop.engine;
 
 import hr.algebra.theloop.config.ConfigurationManager;
+import hr.algebra.theloop.jfr.CardPlayEvent;
+import hr.algebra.theloop.metrics.GameMetrics;
+import hr.algebra.theloop.metrics.MetricsRegistry;
 import hr.algebra.theloop.model.*;
+import hr.algebra.theloop.networking.AbstractPeerConnection;
 import hr.algebra.theloop.networking.NetworkManager;
+import hr.algebra.theloop.persistence.GameJournal;
+import hr.algebra.theloop.persistence.JournalAction;
 import hr.algebra.theloop.utils.GameLogger;
+import hr.algebra.theloop.utils.LogContext;
 
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
 public class GameEngine {
-    private static final int MAX_DUPLICATES_IN_BAG = 28;
+    private static final int MAX_DUPLICATES_IN_BAG = GameResources.DUPLICATE_BAG_SIZE;
     private static final String TIME_AGENT_BRUNO = "Time Agent Bruno";
     private static final String TIME_AGENT_ALICE = "Time Agent Alice";
+    private static final String DESKTOP_GAUGE_PREFIX = "game.";
+    private static final RandomGeneratorFactory<RandomGenerator> RANDOM_FACTORY =
+            RandomGeneratorFactory.of("L64X128MixRandom");
 
     private GameState gameState;
     private PlayerManager playerManager;
@@ -24,23 +39,52 @@ public class GameEngine {
     private final NetworkCoordinator networkCoordinator;
     private final ConfigurationManager configManager;
 
+    private final UIUpdateDispatcher uiUpdateDispatcher;
+    private final LogContext logContext = new LogContext();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
     private int localPlayerIndex = 0;
+    private GameJournal journal;
+
+    public GameEngine(UIUpdateDispatcher uiUpdateDispatcher) {
+        this(uiUpdateDispatcher, ThreadLocalRandom.current().nextLong());
+    }
 
-    public GameEngine() {
+    public GameEngine(UIUpdateDispatcher uiUpdateDispatcher, long randomSeed) {
+        this.uiUpdateDispatcher = uiUpdateDispatcher;
         this.configManager = ConfigurationManager.getInstance();
         this.gameState = new GameState();
-        this.playerManager = new PlayerManager();
+        this.gameState.setRandomSeed(randomSeed);
+
+        RandomGenerator random = RANDOM_FACTORY.create(randomSeed);
+        this.playerManager = new PlayerManager(random);
         this.duplicatesInBag = MAX_DUPLICATES_IN_BAG;
 
-        Random random = new Random();
         this.turnManager = new TurnManager();
         this.drFooAI = new DrFooAI(random, this);
         this.missionManager = new MissionManager(random);
         this.cardAcquisitionManager = new CardAcquisitionManager(random);
-        this.playerActionManager = new PlayerActionManager(gameState, missionManager, cardAcquisitionManager);
+        this.playerActionManager = new PlayerActionManager(gameState, missionManager, cardAcquisitionManager,
+                uiUpdateDispatcher);
+
+        NetworkManager networkManager = new NetworkManager(this::handleNetworkUpdate, uiUpdateDispatcher);
+        this.networkCoordinator = new NetworkCoordinator(networkManager, localPlayerIndex, uiUpdateDispatcher);
+
+        if (uiUpdateDispatcher.isDesktop()) {
+            GameLogger.setDefaultContext(logContext);
+            registerGauges(DESKTOP_GAUGE_PREFIX);
+        }
+    }
+
+    public static GameEngine createHeadless() {
+        return createHeadless(ThreadLocalRandom.current().nextLong());
+    }
 
-        NetworkManager networkManager = new NetworkManager(this::handleNetworkUpdate);
-        this.networkCoordinator = new NetworkCoordinator(networkManager, localPlayerIndex);
+    public static GameEngine createHeadless(long randomSeed) {
+        GameEngine engine = new GameEngine(UIUpdateDispatcher.HEADLESS, randomSeed);
+        engine.getGameState().getResources().setDuplicatePoolingEnabled(true);
+        engine.setupMultiplayerPlayers(PlayerMode.SINGLE_PLAYER);
+        return engine;
     }
 
     public void setPlayerMode(PlayerMode playerMode) {
@@ -61,6 +105,7 @@ public class GameEngine {
 
     public void startGame() {
         validatePlayersSetup();
+        announceGameContext();
         initializeGameComponents();
         setupMultiplayerMode();
     }
@@ -93,9 +138,13 @@ public class GameEngine {
     public void processTurn() {
         if (gameState.isGameOver()) return;
 
+        long start = System.nanoTime();
         turnManager.processMultiplayerTurn(playerManager, gameState, drFooAI, cardAcquisitionManager,
                 networkCoordinator.getNetworkManager(), localPlayerIndex);
+        logContext.setTurn(gameState.getTurnNumber());
         networkCoordinator.broadcastGameState(gameState, playerManager, "Dr. Foo Turn", "Dr. Foo");
+        journalAction(JournalAction.DR_FOO_TURN, "Dr. Foo", "Dr. Foo Turn");
+        GameMetrics.PROCESS_TURN.recordSince(start);
     }
 
     public void endPlayerTurn() {
@@ -107,6 +156,7 @@ public class GameEngine {
         } else if (!isMultiplayer()) {
             networkCoordinator.broadcastGameState(gameState, playerManager, "End Turn", getCurrentPlayer().getName());
         }
+        journalAction(JournalAction.END_TURN, getCurrentPlayer().getName(), "End Turn");
     }
 
     public void saveGame() {
@@ -127,26 +177,38 @@ public class GameEngine {
     }
 
     public boolean playCard(Player player, int cardIndex, Era targetEra) {
+        long start = System.nanoTime();
+        CardPlayEvent event = new CardPlayEvent();
+        event.begin();
         boolean success = playerActionManager.playCard(player, cardIndex, targetEra);
 
         if (success) {
             handleMissionSync();
             checkGameEndConditions();
             broadcastCardAction(player);
+            journalAction(JournalAction.PLAY_CARD, player.getName(), "Played card at " + targetEra.getDisplayName());
+            GameMetrics.CARDS_PLAYED.increment();
+        } else {
+            GameMetrics.CARDS_REJECTED.increment();
         }
 
+        GameMetrics.PLAY_CARD.recordSince(start);
+        event.complete(player.getName(), cardIndex, targetEra.name(), success);
         return success;
     }
 
     public boolean movePlayer(Player player, Era targetEra) {
+        long start = System.nanoTime();
         boolean success = playerActionManager.movePlayer(player, targetEra);
 
         if (success) {
             handleMissionSync();
             checkGameEndConditions();
             broadcastMovementAction(player, targetEra);
+            journalAction(JournalAction.MOVE_PLAYER, player.getName(), "Moved to " + targetEra.getDisplayName());
         }
 
+        GameMetrics.MOVE_PLAYER.recordSince(start);
         return success;
     }
 
@@ -177,6 +239,17 @@ public class GameEngine {
         }
     }
 
+    private void journalAction(JournalAction action, String actor, String detail) {
+        if (journal == null) return;
+
+        gameState.saveAllPlayerStates(playerManager.getPlayers(), playerManager.getCurrentPlayerIndex());
+        journal.record(action, actor, detail, gameState);
+    }
+
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
     public void restoreFromGameState(GameState loadedState) {
         validateLoadedState(loadedState);
 
@@ -184,6 +257,22 @@ public class GameEngine {
         restorePlayerStates(loadedState);
         configureTurnManager();
         recalculateDuplicates();
+        announceGameContext();
+    }
+
+    private void announceGameContext() {
+        logContext.set(Long.toHexString(gameState.getRandomSeed()), gameState.getTurnNumber());
+    }
+
+    public void registerGauges(String prefix) {
+        addGauge(prefix + "turn", () -> gameState.getTurnNumber());
+        addGauge(prefix + "duplicatesOnBoard", this::getTotalDuplicatesOnBoard);
+        addGauge(prefix + "duplicatesInBag", () -> duplicatesInBag);
+    }
+
+    private void addGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+        MetricsRegistry.INSTANCE.gauge(name, gauge);
     }
 
     private void validateLoadedState(GameState loadedState) {
@@ -223,13 +312,16 @@ public class GameEngine {
         networkCoordinator.broadcastCompleteGameState(gameState, playerManager, action, playerName);
     }
 
-    private void handleNetworkUpdate(NetworkGameState networkState) {
-        networkCoordinator.handleNetworkUpdate(gameState, playerManager, networkState);
+    private void handleNetworkUpdate(AbstractPeerConnection origin, NetworkGameState networkState) {
+        networkCoordinator.handleNetworkUpdate(gameState, playerManager, networkState, origin);
         this.duplicatesInBag = gameState.recalculateDuplicatesInBag();
     }
 
     public void shutdown() {
         networkCoordinator.getNetworkManager().stop();
+
+        gauges.forEach(MetricsRegistry.INSTANCE::removeGauge);
+        gauges.clear();
     }
 
     public void setUIUpdateCallback(Runnable callback) {
@@ -237,6 +329,10 @@ public class GameEngine {
         networkCoordinator.setUIUpdateCallback(callback);
     }
 
+    public LogContext getLogContext() {
+        return logContext;
+    }
+
     public Player getCurrentPlayer() { return playerManager.getCurrentPlayer(); }
 
     public Player getLocalPlayer() {
@@ -252,16 +348,18 @@ public class GameEngine {
         return isMultiplayer() ? !gameState.isGameOver() : turnManager.isWaitingForPlayerInput();
     }
 
+    public boolean isHeadless() { return uiUpdateDispatcher.isHeadless(); }
+
     public boolean isMultiplayer() { return networkCoordinator.getNetworkManager().isMultiplayer(); }
     public PlayerMode getPlayerMode() { return networkCoordinator.getNetworkManager().getPlayerMode(); }
     public int getLocalPlayerIndex() { return localPlayerIndex; }
 
     public int getTotalDuplicatesOnBoard() {
-        return (int) java.util.Arrays.stream(Era.values())
-                .mapToLong(era -> gameState.getDuplicateCount(era)).sum();
+        return gameState.getTotalDuplicates();
     }
 
     public GameState getGameState() { return gameState; }
+    public NetworkManager getNetworkManager() { return networkCoordinator.getNetworkManager(); }
     public PlayerManager getPlayerManager() { return playerManager; }
     public int getDuplicatesInBag() { return duplicatesInBag; }
     public MissionManager getMissionManager() { return missionManager; }
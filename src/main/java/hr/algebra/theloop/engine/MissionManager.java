@@ -1,6 +1,7 @@
 package hr.algebra.theloop.engine;
 
 import hr.algebra.theloop.config.ConfigurationManager;
+import hr.algebra.theloop.jfr.MissionCompletedEvent;
 import hr.algebra.theloop.missions.EnergySurgeMission;
 import hr.algebra.theloop.missions.HuntDuplicatesMission;
 import hr.algebra.theloop.missions.Mission;
@@ -11,12 +12,12 @@ import lombok.RequiredArgsConstructor;
 
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 @RequiredArgsConstructor
 public class MissionManager {
 
-    private final Random random;
+    private final RandomGenerator random;
 
     public void initializeMissions(GameState gameState) {
         if (!gameState.getActiveMissions().isEmpty()) {
@@ -49,6 +50,8 @@ public class MissionManager {
                 .filter(mission -> !mission.isCompleted())
                 .toList();
 
+        MissionCompletedEvent event = new MissionCompletedEvent();
+        event.begin();
         for (Mission mission : missionsToCheck) {
             boolean wasCompleted = mission.isCompleted();
 
@@ -60,6 +63,7 @@ public class MissionManager {
                 gameState.incrementMissionsCompleted();
 
                 GameLogger.missionCompleted(mission, player.getName());
+                event.complete(mission.getName(), player.getName(), gameState.getTotalMissionsCompleted());
 
                 Era newEra = Era.values()[random.nextInt(Era.values().length)];
                 Mission newMission = createRandomMission(newEra);
@@ -1,19 +1,25 @@
 package hr.algebra.theloop.engine;
 
+import hr.algebra.theloop.jfr.NetworkApplyEvent;
+import hr.algebra.theloop.metrics.GameMetrics;
 import hr.algebra.theloop.model.*;
+import hr.algebra.theloop.networking.AbstractPeerConnection;
 import hr.algebra.theloop.networking.NetworkManager;
 import hr.algebra.theloop.utils.GameLogger;
-import javafx.application.Platform;
+import hr.algebra.theloop.utils.LogCategory;
 
 public class NetworkCoordinator {
 
     private final NetworkManager networkManager;
     private final int localPlayerIndex;
+    private final UIUpdateDispatcher uiUpdateDispatcher;
     private Runnable uiUpdateCallback;
 
-    public NetworkCoordinator(NetworkManager networkManager, int localPlayerIndex) {
+    public NetworkCoordinator(NetworkManager networkManager, int localPlayerIndex,
+                              UIUpdateDispatcher uiUpdateDispatcher) {
         this.networkManager = networkManager;
         this.localPlayerIndex = localPlayerIndex;
+        this.uiUpdateDispatcher = uiUpdateDispatcher;
     }
 
     public void setUIUpdateCallback(Runnable callback) {
@@ -21,9 +27,16 @@ public class NetworkCoordinator {
     }
 
     public void broadcastGameState(GameState gameState, PlayerManager playerManager, String lastAction, String playerName) {
+        broadcastGameState(gameState, playerManager, lastAction, playerName, null);
+    }
+
+    private void broadcastGameState(GameState gameState, PlayerManager playerManager, String lastAction, String playerName,
+                                    AbstractPeerConnection excludedPeer) {
         if (networkManager.isEnabled()) {
+            long start = System.nanoTime();
             gameState.saveAllPlayerStates(playerManager.getPlayers(), playerManager.getCurrentPlayerIndex());
-            networkManager.sendGameState(gameState, lastAction, playerName);
+            networkManager.sendGameState(gameState, lastAction, playerName, excludedPeer);
+            GameMetrics.BROADCAST_STATE.recordSince(start);
         }
     }
 
@@ -37,7 +50,12 @@ public class NetworkCoordinator {
         }
     }
 
-    public void handleNetworkUpdate(GameState gameState, PlayerManager playerManager, NetworkGameState networkState) {
+    public void handleNetworkUpdate(GameState gameState, PlayerManager playerManager, NetworkGameState networkState,
+                                    AbstractPeerConnection origin) {
+        long start = System.nanoTime();
+        NetworkApplyEvent event = new NetworkApplyEvent();
+        event.begin();
+        boolean applied = false;
         try {
             networkState.applyToGameState(gameState);
 
@@ -48,15 +66,23 @@ public class NetworkCoordinator {
                 );
             }
 
+            if (networkManager.isSessionHosted()) {
+                broadcastGameState(gameState, playerManager, networkState.getLastAction(), networkState.getLastPlayerName(),
+                        origin);
+            }
+
             if (uiUpdateCallback != null) {
-                Platform.runLater(uiUpdateCallback);
+                uiUpdateDispatcher.dispatch(uiUpdateCallback);
             }
 
-            GameLogger.gameFlow("🔄 Network update applied - " + networkState.getLastAction());
+            GameLogger.log(LogCategory.GAME_FLOW, "🔄 Network update applied", "action", networkState.getLastAction());
+            applied = true;
 
         } catch (Exception e) {
             GameLogger.error("Failed to apply network update: " + e.getMessage());
         }
+        GameMetrics.APPLY_NETWORK_UPDATE.recordSince(start);
+        event.complete(networkState.getLastAction(), networkState.getLastPlayerName(), networkState.getTurnNumber(), applied);
     }
 
     public void requestMissionSync(Player localPlayer, String reason) {
@@ -82,7 +108,7 @@ public class NetworkCoordinator {
             Thread.ofVirtual().start(() -> {
                 try {
                     Thread.sleep(2000);
-                    broadcastAction.run();
+                    uiUpdateDispatcher.dispatch(broadcastAction);
                     GameLogger.gameFlow("🎮 Player 1: Broadcasted initial missions to all players");
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
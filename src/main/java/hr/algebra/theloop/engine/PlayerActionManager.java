@@ -6,7 +6,7 @@ import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.model.Player;
 import hr.algebra.theloop.model.PlayerMode;
 import hr.algebra.theloop.utils.GameLogger;
-import javafx.application.Platform;
+import hr.algebra.theloop.utils.LogCategory;
 
 import java.util.List;
 
@@ -14,12 +14,15 @@ public class PlayerActionManager {
 
     private final GameState gameState;
     private final MissionManager missionManager;
+    private final UIUpdateDispatcher uiUpdateDispatcher;
     private Runnable uiUpdateCallback;
 
     public PlayerActionManager(GameState gameState, MissionManager missionManager,
-                               CardAcquisitionManager cardAcquisitionManager) {
+                               CardAcquisitionManager cardAcquisitionManager,
+                               UIUpdateDispatcher uiUpdateDispatcher) {
         this.gameState = gameState;
         this.missionManager = missionManager;
+        this.uiUpdateDispatcher = uiUpdateDispatcher;
     }
 
     public void setUIUpdateCallback(Runnable callback) {
@@ -45,20 +48,13 @@ public class PlayerActionManager {
             return false;
         }
 
-        int totalDuplicatesBefore = getTotalDuplicates();
-
         card.execute(gameState, player);
         card.exhaust();
 
-        int totalDuplicatesAfter = getTotalDuplicates();
-        boolean duplicatesChanged = (totalDuplicatesBefore != totalDuplicatesAfter);
-
-        GameLogger.playerAction(player.getName(), "Played " + card.getName() +
-                (duplicatesChanged ? " (duplicates: " + totalDuplicatesBefore + " → " + totalDuplicatesAfter + ")" : ""));
+        GameLogger.playerAction(player.getName(), "Played card",
+                "card", card.getName(), "duplicates", gameState.getTotalDuplicates());
 
-        if (uiUpdateCallback != null) {
-            Platform.runLater(uiUpdateCallback);
-        }
+        triggerUIUpdate();
 
         missionManager.checkAllMissions(gameState, player, card.getClass().getSimpleName());
 
@@ -85,7 +81,7 @@ public class PlayerActionManager {
     private boolean executeFreeBatteryMovement(Player player, Era targetEra) {
         player.useFreeBattery();
         player.moveToEra(targetEra);
-        GameLogger.playerAction(player.getName(), "Moved to " + targetEra.getDisplayName() + " (battery)");
+        GameLogger.log(LogCategory.PLAYER_ACTION, "Moved (battery)", "player", player.getName(), "era", targetEra);
 
         triggerUIUpdate();
         missionManager.checkAllMissions(gameState, player, "Movement");
@@ -100,7 +96,7 @@ public class PlayerActionManager {
 
         gameState.removeEnergy(currentEra, 1);
         player.moveToEra(targetEra);
-        GameLogger.playerAction(player.getName(), "Moved to " + targetEra.getDisplayName() + " (1 energy)");
+        GameLogger.log(LogCategory.PLAYER_ACTION, "Moved (1 energy)", "player", player.getName(), "era", targetEra);
 
         triggerUIUpdate();
         missionManager.checkAllMissions(gameState, player, "Movement");
@@ -110,10 +106,7 @@ public class PlayerActionManager {
     public boolean spawnDuplicate(Era era, int duplicatesInBag) {
         if (duplicatesInBag <= 0) return false;
 
-        hr.algebra.theloop.model.Duplicate newDuplicate = new hr.algebra.theloop.model.Duplicate(era);
-        gameState.addDuplicate(era, newDuplicate);
-
-        return true;
+        return gameState.spawnDuplicate(era) != null;
     }
 
     private boolean isValidCardIndex(Player player, int cardIndex) {
@@ -123,15 +116,7 @@ public class PlayerActionManager {
 
     private void triggerUIUpdate() {
         if (uiUpdateCallback != null) {
-            Platform.runLater(uiUpdateCallback);
-        }
-    }
-
-    private int getTotalDuplicates() {
-        int total = 0;
-        for (Era era : Era.values()) {
-            total += gameState.getDuplicateCount(era);
+            uiUpdateDispatcher.dispatch(uiUpdateCallback);
         }
-        return total;
     }
 }
\ No newline at end of file
@@ -9,13 +9,16 @@ import hr.algebra.theloop.utils.GameLogger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 public class PlayerManager {
 
     private final List<Player> players;
+    private final RandomGenerator random;
     private int currentPlayerIndex;
 
-    public PlayerManager() {
+    public PlayerManager(RandomGenerator random) {
+        this.random = random;
         this.players = new ArrayList<>();
         this.currentPlayerIndex = 0;
     }
@@ -28,7 +31,7 @@ public class PlayerManager {
     }
 
     private void giveStartingCards(Player player) {
-        List<ArtifactCard> startingCards = CardFactory.createRandomStartingDeck();
+        List<ArtifactCard> startingCards = CardFactory.createRandomStartingDeck(random);
 
         for (int i = 0; i < Math.min(3, startingCards.size()); i++) {
             ArtifactCard card = startingCards.get(i);
@@ -53,7 +56,7 @@ public class PlayerManager {
         for (Player player : players) {
             player.discardHand();
             player.rechargeBatteries();
-            player.drawToFullHand();
+            player.drawToFullHand(random);
         }
     }
 
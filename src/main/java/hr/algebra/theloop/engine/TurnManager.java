@@ -1,11 +1,9 @@
 package hr.algebra.theloop.engine;
 
 import hr.algebra.theloop.model.GameState;
-import hr.algebra.theloop.model.Player;
 import hr.algebra.theloop.networking.NetworkManager;
 import hr.algebra.theloop.utils.GameLogger;
-
-import java.util.List;
+import hr.algebra.theloop.utils.LogCategory;
 
 public class TurnManager {
 
@@ -19,14 +17,10 @@ public class TurnManager {
         waitingForPlayerInput = true;
     }
 
-    public void endPlayerTurn(List<Player> players, GameState gameState) {
+    public void endPlayerTurn(PlayerManager playerManager, GameState gameState) {
         waitingForPlayerInput = false;
 
-        for (Player player : players) {
-            player.discardHand();
-            player.rechargeBatteries();
-            player.drawToFullHand();
-        }
+        playerManager.endPlayerTurns();
 
         gameState.nextTurn();
     }
@@ -62,8 +56,8 @@ public class TurnManager {
             gameState.saveAllPlayerStates(playerManager.getPlayers(), playerManager.getCurrentPlayerIndex());
         } else {
             String currentPlayerName = playerManager.getCurrentPlayer().getName();
-            endPlayerTurn(playerManager.getPlayers(), gameState);
-            GameLogger.gameFlow("Turn ended by " + currentPlayerName);
+            endPlayerTurn(playerManager, gameState);
+            GameLogger.log(LogCategory.GAME_FLOW, "Turn ended", "player", currentPlayerName);
         }
     }
 
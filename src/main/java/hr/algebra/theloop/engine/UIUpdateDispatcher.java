@@ -0,0 +1,17 @@
+package hr.algebra.theloop.engine;
+
+@FunctionalInterface
+public interface UIUpdateDispatcher {
+
+    UIUpdateDispatcher HEADLESS = Runnable::run;
+
+    void dispatch(Runnable uiUpdate);
+
+    default boolean isHeadless() {
+        return this == HEADLESS;
+    }
+
+    default boolean isDesktop() {
+        return false;
+    }
+}
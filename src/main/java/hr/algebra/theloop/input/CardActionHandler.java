@@ -45,7 +45,7 @@ public class CardActionHandler {
     }
 
     public boolean handleDuplicateCard(Player player, int cardIndex, Era targetEra, CardController cardController) {
-        List<Duplicate> duplicatesAtEra = gameEngine.getGameState().getDuplicatesAt(targetEra);
+        List<Duplicate> duplicatesAtEra = new ArrayList<>(gameEngine.getGameState().getDuplicatesAt(targetEra));
 
         if (duplicatesAtEra.isEmpty()) {
             return false;
@@ -0,0 +1,28 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+@Name("hr.algebra.theloop.AutoSave")
+@Label("Autosave")
+@Category({"The Loop", "Persistence"})
+@StackTrace(false)
+public class AutoSaveEvent extends Event {
+
+    @Label("File")
+    String fileName;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public void complete(String fileName, int turn, boolean succeeded) {
+        if (shouldCommit()) {
+            this.fileName = fileName;
+            this.turn = turn;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
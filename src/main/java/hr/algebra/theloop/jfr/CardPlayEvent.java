@@ -0,0 +1,32 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+@Name("hr.algebra.theloop.CardPlay")
+@Label("Card Play")
+@Category({"The Loop", "Engine"})
+@StackTrace(false)
+public class CardPlayEvent extends Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Card Index")
+    int cardIndex;
+
+    @Label("Target Era")
+    String targetEra;
+
+    @Label("Accepted")
+    boolean accepted;
+
+    public void complete(String player, int cardIndex, String targetEra, boolean accepted) {
+        if (shouldCommit()) {
+            this.player = player;
+            this.cardIndex = cardIndex;
+            this.targetEra = targetEra;
+            this.accepted = accepted;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+@Name("hr.algebra.theloop.DrFooPhase")
+@Label("Dr. Foo Phase")
+@Category({"The Loop", "Engine"})
+@StackTrace(false)
+public class DrFooPhaseEvent extends Event {
+
+    @Label("Dr. Foo Era")
+    String era;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Cycle")
+    int cycle;
+
+    public void complete(String era, int turn, int cycle) {
+        if (shouldCommit()) {
+            this.era = era;
+            this.turn = turn;
+            this.cycle = cycle;
+            commit();
+        }
+    }
+}
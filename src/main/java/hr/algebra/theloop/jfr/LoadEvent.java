@@ -0,0 +1,31 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+import java.nio.file.Path;
+
+@Name("hr.algebra.theloop.Load")
+@Label("Game Load")
+@Category({"The Loop", "Persistence"})
+@StackTrace(false)
+public class LoadEvent extends Event {
+
+    @Label("File")
+    String fileName;
+
+    @Label("File Size")
+    @DataAmount
+    long sizeBytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public void complete(Path file, boolean succeeded) {
+        if (shouldCommit()) {
+            this.fileName = file.getFileName().toString();
+            this.sizeBytes = EventFiles.sizeOf(file);
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
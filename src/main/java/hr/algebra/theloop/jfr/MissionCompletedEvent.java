@@ -0,0 +1,28 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+@Name("hr.algebra.theloop.MissionCompleted")
+@Label("Mission Completed")
+@Category({"The Loop", "Engine"})
+@StackTrace(false)
+public class MissionCompletedEvent extends Event {
+
+    @Label("Mission")
+    String mission;
+
+    @Label("Player")
+    String player;
+
+    @Label("Missions Completed")
+    int totalCompleted;
+
+    public void complete(String mission, String player, int totalCompleted) {
+        if (shouldCommit()) {
+            this.mission = mission;
+            this.player = player;
+            this.totalCompleted = totalCompleted;
+            commit();
+        }
+    }
+}
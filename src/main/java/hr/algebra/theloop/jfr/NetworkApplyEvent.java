@@ -0,0 +1,32 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+@Name("hr.algebra.theloop.NetworkApply")
+@Label("Network Update Apply")
+@Category({"The Loop", "Network"})
+@StackTrace(false)
+public class NetworkApplyEvent extends Event {
+
+    @Label("Action")
+    String action;
+
+    @Label("Player")
+    String player;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public void complete(String action, String player, int turn, boolean succeeded) {
+        if (shouldCommit()) {
+            this.action = action;
+            this.player = player;
+            this.turn = turn;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+import java.nio.file.Path;
+
+@Name("hr.algebra.theloop.Save")
+@Label("Game Save")
+@Category({"The Loop", "Persistence"})
+@StackTrace(false)
+public class SaveEvent extends Event {
+
+    @Label("File")
+    String fileName;
+
+    @Label("Compression")
+    String compression;
+
+    @Label("File Size")
+    @DataAmount
+    long sizeBytes;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public void complete(Path file, String compression, boolean succeeded) {
+        if (shouldCommit()) {
+            this.fileName = file.getFileName().toString();
+            this.compression = compression;
+            this.sizeBytes = succeeded ? EventFiles.sizeOf(file) : 0;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+import java.net.SocketAddress;
+
+@Name("hr.algebra.theloop.StateReceive")
+@Label("Game State Receive")
+@Category({"The Loop", "Network"})
+@StackTrace(false)
+public class StateReceiveEvent extends Event {
+
+    @Label("Peer")
+    String peer;
+
+    @Label("Version")
+    long version;
+
+    @Label("Base Version")
+    long baseVersion;
+
+    @Label("Resync Requested")
+    boolean resyncRequested;
+
+    public void complete(SocketAddress peer, long version, long baseVersion, boolean resyncRequested) {
+        if (shouldCommit()) {
+            this.peer = String.valueOf(peer);
+            this.version = version;
+            this.baseVersion = baseVersion;
+            this.resyncRequested = resyncRequested;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package hr.algebra.theloop.jfr;
+
+import jdk.jfr.*;
+
+import java.net.SocketAddress;
+
+@Name("hr.algebra.theloop.StateSend")
+@Label("Game State Send")
+@Category({"The Loop", "Network"})
+@StackTrace(false)
+public class StateSendEvent extends Event {
+
+    @Label("Peer")
+    String peer;
+
+    @Label("Action")
+    String action;
+
+    @Label("Version")
+    long version;
+
+    @Label("Base Version")
+    @Description("Version the delta was encoded against, -1 for a full snapshot")
+    long baseVersion;
+
+    @Label("Frame Size")
+    @DataAmount
+    int bytes;
+
+    @Label("Delivered")
+    boolean delivered;
+
+    public void complete(SocketAddress peer, String action, long version, long baseVersion, int bytes, boolean delivered) {
+        if (shouldCommit()) {
+            this.peer = String.valueOf(peer);
+            this.action = action;
+            this.version = version;
+            this.baseVersion = baseVersion;
+            this.bytes = bytes;
+            this.delivered = delivered;
+            commit();
+        }
+    }
+}
@@ -7,7 +7,20 @@ public enum ConfigurationKey {
     CHAT_SERVER_PORT("chat.server.port"),
     HOSTNAME("hostname"),
     RMI_PORT("rmi.server.port"),
-    CONNECTION_TIMEOUT("connection.timeout");
+    CONNECTION_TIMEOUT("connection.timeout"),
+    SERVER_IMPLEMENTATION("server.implementation"),
+    MAX_PEER_CONNECTIONS("server.max.connections"),
+    MANUAL_SAVE_COMPRESSION("save.compression.manual"),
+    AUTO_SAVE_COMPRESSION("save.compression.auto"),
+    RETENTION_KEEP_RECENT("save.retention.keep.recent"),
+    RETENTION_KEEP_DAILY_DAYS("save.retention.keep.daily.days"),
+    RETENTION_MAX_MEGABYTES("save.retention.max.megabytes"),
+    CHAT_HISTORY_CAPACITY("chat.history.capacity"),
+    CHAT_LOG_FILE("chat.log.file"),
+    LOG_LEVELS("log.levels"),
+    METRICS_EXPORT_DIRECTORY("metrics.export.directory"),
+    METRICS_EXPORT_INTERVAL_SECONDS("metrics.export.interval.seconds"),
+    SESSION_ID("session.id");
 
     private final String key;
 
@@ -24,6 +24,19 @@ public class ConfigurationReader {
             jndiStore.put("player.one.server.port", "12345");
             jndiStore.put("player.two.server.port", "12346");
             jndiStore.put("connection.timeout", "5000");
+            jndiStore.put("server.implementation", "virtual-threads");
+            jndiStore.put("server.max.connections", "8");
+            jndiStore.put("save.compression.manual", "none");
+            jndiStore.put("save.compression.auto", "none");
+            jndiStore.put("save.retention.keep.recent", "10");
+            jndiStore.put("save.retention.keep.daily.days", "14");
+            jndiStore.put("save.retention.max.megabytes", "64");
+            jndiStore.put("chat.history.capacity", "1000");
+            jndiStore.put("chat.log.file", "chat/chat-history.log");
+            jndiStore.put("log.levels", "");
+            jndiStore.put("metrics.export.directory", "metrics");
+            jndiStore.put("metrics.export.interval.seconds", "60");
+            jndiStore.put("session.id", "");
         } catch (Exception e) {
             jndiEnabled = false;
             GameLogger.error("Failed to initialize JNDI configuration: " + e.getMessage());
@@ -101,6 +114,12 @@ public class ConfigurationReader {
     private static String getDefaultStringValue(ConfigurationKey key) {
         return switch (key) {
             case HOSTNAME -> "localhost";
+            case SERVER_IMPLEMENTATION -> "virtual-threads";
+            case CHAT_LOG_FILE -> "chat/chat-history.log";
+            case MANUAL_SAVE_COMPRESSION, AUTO_SAVE_COMPRESSION -> "none";
+            case LOG_LEVELS -> "";
+            case METRICS_EXPORT_DIRECTORY -> "metrics";
+            case SESSION_ID -> "";
             default -> "unknown";
         };
     }
@@ -111,6 +130,12 @@ public class ConfigurationReader {
             case PLAYER_TWO_SERVER_PORT -> 12346;
             case CHAT_SERVER_PORT, RMI_PORT -> 1099;
             case CONNECTION_TIMEOUT -> 5000;
+            case MAX_PEER_CONNECTIONS -> 8;
+            case RETENTION_KEEP_RECENT -> 10;
+            case RETENTION_KEEP_DAILY_DAYS -> 14;
+            case RETENTION_MAX_MEGABYTES -> 64;
+            case CHAT_HISTORY_CAPACITY -> 1000;
+            case METRICS_EXPORT_INTERVAL_SECONDS -> 60;
             default -> 0;
         };
     }
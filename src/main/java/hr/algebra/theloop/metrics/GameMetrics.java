@@ -0,0 +1,31 @@
+package hr.algebra.theloop.metrics;
+
+public final class GameMetrics {
+
+    private GameMetrics() {
+    }
+
+    public static final LatencyHistogram PROCESS_TURN = MetricsRegistry.INSTANCE.histogram("engine.processTurn");
+    public static final LatencyHistogram PLAY_CARD = MetricsRegistry.INSTANCE.histogram("engine.playCard");
+    public static final LatencyHistogram MOVE_PLAYER = MetricsRegistry.INSTANCE.histogram("engine.movePlayer");
+
+    public static final LatencyHistogram BROADCAST_STATE = MetricsRegistry.INSTANCE.histogram("network.broadcastGameState");
+    public static final LatencyHistogram APPLY_NETWORK_UPDATE = MetricsRegistry.INSTANCE.histogram("network.handleNetworkUpdate");
+
+    public static final LatencyHistogram UI_UPDATE = MetricsRegistry.INSTANCE.histogram("ui.updateAll");
+
+    public static final LatencyHistogram SNAPSHOT_CAPTURE = MetricsRegistry.INSTANCE.histogram("persistence.snapshot");
+    public static final LatencyHistogram SAVE = MetricsRegistry.INSTANCE.histogram("persistence.save");
+    public static final LatencyHistogram LOAD = MetricsRegistry.INSTANCE.histogram("persistence.load");
+
+    public static final Counter CARDS_PLAYED = MetricsRegistry.INSTANCE.counter("engine.cardsPlayed");
+    public static final Counter CARDS_REJECTED = MetricsRegistry.INSTANCE.counter("engine.cardsRejected");
+    public static final Counter SAVE_BYTES = MetricsRegistry.INSTANCE.counter("persistence.bytesWritten");
+    public static final Counter SAVE_FAILURES = MetricsRegistry.INSTANCE.counter("persistence.saveFailures");
+    public static final Counter LOAD_FAILURES = MetricsRegistry.INSTANCE.counter("persistence.loadFailures");
+
+    static {
+        Runtime runtime = Runtime.getRuntime();
+        MetricsRegistry.INSTANCE.gauge("jvm.heapUsedBytes", () -> runtime.totalMemory() - runtime.freeMemory());
+    }
+}
@@ -0,0 +1,81 @@
+package hr.algebra.theloop.metrics;
+
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.persistence.SaveFileFormat;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public enum MetricsExporter {
+    INSTANCE;
+
+    private static final String TEXT_FILE_NAME = "metrics.txt";
+    private static final String JSON_FILE_NAME = "metrics.json";
+
+    private ScheduledExecutorService scheduler;
+    private Path directory;
+
+    public synchronized void start() {
+        int intervalSeconds = ConfigurationReader.getIntegerValueForKey(ConfigurationKey.METRICS_EXPORT_INTERVAL_SECONDS);
+        String exportDirectory = ConfigurationReader.getStringValueForKey(ConfigurationKey.METRICS_EXPORT_DIRECTORY);
+
+        if (intervalSeconds <= 0 || exportDirectory == null || exportDirectory.isBlank()) {
+            return;
+        }
+        start(Paths.get(exportDirectory), intervalSeconds);
+    }
+
+    public synchronized void start(Path exportDirectory, long intervalSeconds) {
+        if (scheduler != null) {
+            return;
+        }
+
+        directory = exportDirectory;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "MetricsExporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::exportQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        GameLogger.gameFlow("Metrics export every " + intervalSeconds + "s to " + directory.toAbsolutePath());
+    }
+
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        exportQuietly();
+    }
+
+    public void export(Path exportDirectory) throws IOException {
+        MetricsSnapshot snapshot = MetricsRegistry.INSTANCE.snapshot();
+
+        Files.createDirectories(exportDirectory);
+        SaveFileFormat.writeAtomically(exportDirectory.resolve(TEXT_FILE_NAME), snapshot.toText().getBytes(StandardCharsets.UTF_8));
+        SaveFileFormat.writeAtomically(exportDirectory.resolve(JSON_FILE_NAME), snapshot.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void exportQuietly() {
+        try {
+            export(directory);
+        } catch (IOException e) {
+            GameLogger.warning("Metrics export failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package hr.algebra.theloop.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Data
+@AllArgsConstructor
+public class MetricsSnapshot {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final long capturedAtMillis;
+    private final SortedMap<String, Long> counters;
+    private final SortedMap<String, Long> gauges;
+    private final SortedMap<String, HistogramSnapshot> histograms;
+
+    public String toText() {
+        StringBuilder text = new StringBuilder("# The Loop metrics at ")
+                .append(Instant.ofEpochMilli(capturedAtMillis)).append('\n');
+
+        text.append("\n[counters]\n");
+        counters.forEach((name, value) -> text.append(String.format("%-40s %12d%n", name, value)));
+
+        text.append("\n[gauges]\n");
+        gauges.forEach((name, value) -> text.append(String.format("%-40s %12d%n", name, value)));
+
+        text.append("\n[latency, ms]\n");
+        text.append(String.format("%-40s %8s %9s %9s %9s %9s %9s %9s%n",
+                "", "count", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        histograms.forEach((name, histogram) -> text.append(String.format(
+                "%-40s %8d %9.3f %9.3f %9.3f %9.3f %9.3f %9.3f%n",
+                name, histogram.getCount(),
+                millis(histogram.getMeanNanos()), millis(histogram.getP50Nanos()), millis(histogram.getP90Nanos()),
+                millis(histogram.getP99Nanos()), millis(histogram.getP999Nanos()), millis(histogram.getMaxNanos()))));
+
+        return text.toString();
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\"capturedAtMillis\":").append(capturedAtMillis);
+
+        json.append(",\"counters\":");
+        appendValues(json, counters);
+        json.append(",\"gauges\":");
+        appendValues(json, gauges);
+
+        json.append(",\"histograms\":{");
+        boolean first = true;
+        for (Map.Entry<String, HistogramSnapshot> entry : histograms.entrySet()) {
+            HistogramSnapshot histogram = entry.getValue();
+            json.append(first ? "" : ",").append('"').append(entry.getKey()).append("\":{")
+                    .append("\"count\":").append(histogram.getCount())
+                    .append(",\"meanNanos\":").append(histogram.getMeanNanos())
+                    .append(",\"p50Nanos\":").append(histogram.getP50Nanos())
+                    .append(",\"p90Nanos\":").append(histogram.getP90Nanos())
+                    .append(",\"p99Nanos\":").append(histogram.getP99Nanos())
+                    .append(",\"p999Nanos\":").append(histogram.getP999Nanos())
+                    .append(",\"maxNanos\":").append(histogram.getMaxNanos())
+                    .append('}');
+            first = false;
+        }
+        return json.append("}}").toString();
+    }
+
+    private static void appendValues(StringBuilder json, Map<String, Long> values) {
+        json.append('{');
+        boolean first = true;
+        for (Map.Entry<String, Long> entry : values.entrySet()) {
+            json.append(first ? "" : ",").append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+            first = false;
+        }
+        json.append('}');
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
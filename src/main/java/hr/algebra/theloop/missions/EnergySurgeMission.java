@@ -9,6 +9,8 @@ import hr.algebra.theloop.model.Player;
 
 public class EnergySurgeMission extends Mission {
 
+    private static final long serialVersionUID = 1L;
+
     public EnergySurgeMission(Era assignedEra) {
         super("Energy Surge at " + assignedEra.getDisplayName(),
                 "Accumulate 5+ energy at " + assignedEra.getDisplayName(),
@@ -5,6 +5,8 @@ import hr.algebra.theloop.model.Player;
 
 public class HuntDuplicatesMission extends Mission {
 
+    private static final long serialVersionUID = 1L;
+
     public HuntDuplicatesMission() {
         super("Hunt Duplicates",
                 "Manipulate 3 duplicates (push/pull/destroy)",
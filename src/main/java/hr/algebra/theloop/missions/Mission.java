@@ -10,6 +10,8 @@ import java.io.Serializable;
 @Data
 public abstract class Mission implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     protected String name;
     protected String description;
     protected Era assignedEra;
@@ -5,7 +5,7 @@ import hr.algebra.theloop.model.GameState;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class MissionFactory {
 
@@ -13,9 +13,9 @@ public class MissionFactory {
     private static final String ENERGY_TYPE = "ENERGY";
     private static final String HUNT_TYPE = "HUNT";
 
-    private final Random random;
+    private final RandomGenerator random;
 
-    public MissionFactory(Random random) {
+    public MissionFactory(RandomGenerator random) {
         this.random = random;
     }
 
@@ -6,6 +6,8 @@ import hr.algebra.theloop.model.Player;
 
 public class StabilizeEraMission extends Mission {
 
+    private static final long serialVersionUID = 1L;
+
     private int riftsRemovedByPlayer = 0;
     private boolean playerHasWorked = false;
 
@@ -48,6 +50,11 @@ public class StabilizeEraMission extends Mission {
         return playerHasWorked;
     }
 
+    public void restorePlayerWork(int riftsRemovedByPlayer, boolean playerHasWorked) {
+        this.riftsRemovedByPlayer = riftsRemovedByPlayer;
+        this.playerHasWorked = playerHasWorked;
+    }
+
     @Override
     public String toString() {
         String workStatus = playerHasWorked ?
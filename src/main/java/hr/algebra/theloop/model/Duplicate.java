@@ -5,35 +5,28 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.io.Serializable;
-import java.util.UUID;
 
 @Data
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Duplicate implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     @EqualsAndHashCode.Include
-    private String id;
+    private int id;
 
     private Era spawnEra;
     private Era destroyEra;
     private Era currentEra;
     private int turnsActive;
 
-    public Duplicate(Era spawnEra) {
-        this.id = "DUP_" + UUID.randomUUID().toString().substring(0, 8);
-        this.spawnEra = spawnEra;
-        this.currentEra = spawnEra;
-        this.destroyEra = calculateDestroyEra(spawnEra);
-        this.turnsActive = 0;
+    public Duplicate(int id, Era spawnEra) {
+        this(id, spawnEra, spawnEra, 0);
     }
 
-    public Duplicate(Era originalSpawnEra, Era newCurrentEra, int turnsActive) {
-        this.id = "DUP_" + UUID.randomUUID().toString().substring(0, 8);
-        this.spawnEra = originalSpawnEra;
-        this.destroyEra = calculateDestroyEra(originalSpawnEra);
-        this.currentEra = newCurrentEra;
-        this.turnsActive = turnsActive;
+    public Duplicate(int id, Era originalSpawnEra, Era newCurrentEra, int turnsActive) {
+        reinitialize(id, originalSpawnEra, newCurrentEra, turnsActive);
     }
 
     public Duplicate(Duplicate other) {
@@ -44,6 +37,14 @@ public class Duplicate implements Serializable {
         this.turnsActive = other.turnsActive;
     }
 
+    void reinitialize(int id, Era originalSpawnEra, Era newCurrentEra, int turnsActive) {
+        this.id = id;
+        this.spawnEra = originalSpawnEra;
+        this.destroyEra = calculateDestroyEra(originalSpawnEra);
+        this.currentEra = newCurrentEra;
+        this.turnsActive = turnsActive;
+    }
+
     private Era calculateDestroyEra(Era spawn) {
         return spawn.getOpposite();
     }
@@ -81,7 +82,7 @@ public class Duplicate implements Serializable {
     }
 
     public String getDisplayName() {
-        return "Dr. Foo #" + id.substring(4);
+        return "Dr. Foo #" + id;
     }
 
     public String getIcon() {
@@ -94,7 +95,7 @@ public class Duplicate implements Serializable {
 
     @Override
     public String toString() {
-        return String.format("Duplicate[%s: %s → %s → %s]",
+        return String.format("Duplicate[#%d: %s → %s → %s]",
                 id, spawnEra.getDisplayName(),
                 currentEra.getDisplayName(),
                 destroyEra.getDisplayName());
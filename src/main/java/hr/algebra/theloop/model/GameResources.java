@@ -1,124 +1,268 @@
 package hr.algebra.theloop.model;
 
-import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.io.Serializable;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 
-@Data
+@EqualsAndHashCode
+@ToString
 public class GameResources implements Serializable {
 
-    private Map<Era, Integer> rifts;
-    private Map<Era, Integer> energy;
-    private Set<Era> vortexes;
-    private Map<Era, List<Duplicate>> duplicates;
+    public static final int DUPLICATE_BAG_SIZE = 28;
+
+    private static final long serialVersionUID = 1L;
+    private static final Era[] ERAS = Era.values();
+    private static final int STARTING_ENERGY = 1;
+    private static final int ALL_DUPLICATE_IDS_MASK = (1 << DUPLICATE_BAG_SIZE) - 1;
+
+    private final int[] rifts;
+    private final int[] energy;
+    private int vortexMask;
+    private final List<List<Duplicate>> duplicates;
+    private int duplicateIdMask;
+
+    @ToString.Exclude
+    private transient List<List<Duplicate>> duplicateViews;
+
+    @ToString.Exclude
+    private transient Deque<Duplicate> duplicatePool;
 
     public GameResources() {
-        this.rifts = new ConcurrentHashMap<>();
-        this.energy = new ConcurrentHashMap<>();
-        this.vortexes = ConcurrentHashMap.newKeySet();
-        this.duplicates = new ConcurrentHashMap<>();
-
-        for (Era era : Era.values()) {
-            rifts.put(era, 0);
-            energy.put(era, 1);
-            duplicates.put(era, new ArrayList<>());
+        this.rifts = new int[ERAS.length];
+        this.energy = new int[ERAS.length];
+        this.duplicates = new ArrayList<>(ERAS.length);
+
+        for (int i = 0; i < ERAS.length; i++) {
+            duplicates.add(new ArrayList<>());
         }
+        resetResources();
     }
 
     public int getRifts(Era era) {
-        return rifts.getOrDefault(era, 0);
+        return rifts[era.ordinal()];
+    }
+
+    public void setRifts(Era era, int amount) {
+        rifts[era.ordinal()] = amount;
     }
 
     public void addRifts(Era era, int amount) {
-        int current = getRifts(era);
-        rifts.put(era, current + amount);
+        rifts[era.ordinal()] += amount;
     }
 
     public void removeRifts(Era era, int amount) {
-        int current = getRifts(era);
-        int newAmount = Math.max(0, current - amount);
-        rifts.put(era, newAmount);
+        int index = era.ordinal();
+        rifts[index] = Math.max(0, rifts[index] - amount);
     }
 
     public int getEnergy(Era era) {
-        return energy.getOrDefault(era, 0);
+        return energy[era.ordinal()];
+    }
+
+    public void setEnergy(Era era, int amount) {
+        energy[era.ordinal()] = amount;
     }
 
     public void addEnergy(Era era, int amount) {
-        int current = getEnergy(era);
-        energy.put(era, current + amount);
+        energy[era.ordinal()] += amount;
     }
 
     public void removeEnergy(Era era, int amount) {
-        int current = getEnergy(era);
-        int newAmount = Math.max(0, current - amount);
-        energy.put(era, newAmount);
+        int index = era.ordinal();
+        energy[index] = Math.max(0, energy[index] - amount);
     }
 
     public boolean hasVortex(Era era) {
-        return vortexes.contains(era);
+        return (vortexMask & vortexBit(era)) != 0;
     }
 
     public void createVortex(Era era) {
-        vortexes.add(era);
-        rifts.put(era, 0);
+        vortexMask |= vortexBit(era);
+        rifts[era.ordinal()] = 0;
+    }
+
+    public void setVortex(Era era, boolean vortex) {
+        if (vortex) {
+            vortexMask |= vortexBit(era);
+        } else {
+            vortexMask &= ~vortexBit(era);
+        }
     }
 
     public int getVortexCount() {
-        return vortexes.size();
+        return Integer.bitCount(vortexMask);
     }
 
     public List<Duplicate> getDuplicatesAt(Era era) {
-        return new ArrayList<>(duplicates.getOrDefault(era, new ArrayList<>()));
+        if (duplicateViews == null) {
+            List<List<Duplicate>> views = new ArrayList<>(ERAS.length);
+            for (List<Duplicate> eraDuplicates : duplicates) {
+                views.add(Collections.unmodifiableList(eraDuplicates));
+            }
+            duplicateViews = views;
+        }
+        return duplicateViews.get(era.ordinal());
+    }
+
+    public Duplicate spawnDuplicate(Era era) {
+        int id = nextFreeDuplicateId();
+        if (id < 0) {
+            return null;
+        }
+
+        Duplicate duplicate = obtainDuplicate(id, era, era, 0);
+        addDuplicate(era, duplicate);
+        return duplicate;
+    }
+
+    public Duplicate restoreDuplicate(Era era, int id, Era spawnEra, int turnsActive) {
+        Duplicate duplicate = obtainDuplicate(id, spawnEra, era, turnsActive);
+        addDuplicate(era, duplicate);
+        return duplicate;
     }
 
     public void addDuplicate(Era era, Duplicate duplicate) {
-        duplicates.computeIfAbsent(era, k -> new ArrayList<>()).add(duplicate);
+        duplicates.get(era.ordinal()).add(duplicate);
+        duplicateIdMask |= duplicateIdBit(duplicate.getId());
     }
 
     public boolean removeDuplicate(Era era, Duplicate duplicate) {
-        List<Duplicate> eraDuplicates = duplicates.get(era);
-        return eraDuplicates != null && eraDuplicates.remove(duplicate);
+        List<Duplicate> eraDuplicates = duplicates.get(era.ordinal());
+        int index = eraDuplicates.indexOf(duplicate);
+        if (index < 0) {
+            return false;
+        }
+
+        recycleDuplicate(eraDuplicates.remove(index));
+        return true;
+    }
+
+    public boolean moveDuplicate(Era sourceEra, Era targetEra, Duplicate duplicate) {
+        List<Duplicate> sourceDuplicates = duplicates.get(sourceEra.ordinal());
+        int index = sourceDuplicates.indexOf(duplicate);
+        if (index < 0) {
+            return false;
+        }
+
+        Duplicate moved = sourceDuplicates.remove(index);
+        moved.moveTo(targetEra);
+
+        if (moved.isAtDestructionEra()) {
+            recycleDuplicate(moved);
+            return false;
+        }
+
+        duplicates.get(targetEra.ordinal()).add(moved);
+        return true;
+    }
+
+    public void clearDuplicatesAt(Era era) {
+        List<Duplicate> eraDuplicates = duplicates.get(era.ordinal());
+        for (Duplicate duplicate : eraDuplicates) {
+            recycleDuplicate(duplicate);
+        }
+        eraDuplicates.clear();
+    }
+
+    public void setDuplicatePoolingEnabled(boolean enabled) {
+        duplicatePool = enabled ? new ArrayDeque<>(DUPLICATE_BAG_SIZE) : null;
+    }
+
+    public boolean isDuplicatePoolingEnabled() {
+        return duplicatePool != null;
     }
 
     public int getDuplicateCount(Era era) {
-        return duplicates.getOrDefault(era, new ArrayList<>()).size();
+        return duplicates.get(era.ordinal()).size();
+    }
+
+    public int getTotalDuplicates() {
+        int total = 0;
+        for (List<Duplicate> eraDuplicates : duplicates) {
+            total += eraDuplicates.size();
+        }
+        return total;
     }
 
     public int getTotalRifts() {
-        return rifts.values().stream().mapToInt(Integer::intValue).sum();
+        int total = 0;
+        for (int amount : rifts) {
+            total += amount;
+        }
+        return total;
     }
 
     public int getTotalEnergy() {
-        return energy.values().stream().mapToInt(Integer::intValue).sum();
+        int total = 0;
+        for (int amount : energy) {
+            total += amount;
+        }
+        return total;
     }
 
     public Era getEraWithMostRifts() {
-        return rifts.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(Era.DAWN_OF_TIME);
+        return ERAS[indexOfMax(rifts)];
     }
 
     public Era getEraWithMostEnergy() {
-        return energy.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(Era.DAWN_OF_TIME);
+        return ERAS[indexOfMax(energy)];
     }
 
     public void clearVortexes() {
-        vortexes.clear();
+        vortexMask = 0;
     }
 
     public void resetResources() {
-        for (Era era : Era.values()) {
-            rifts.put(era, 0);
-            energy.put(era, 1);
-            duplicates.put(era, new ArrayList<>());
+        for (int i = 0; i < ERAS.length; i++) {
+            rifts[i] = 0;
+            energy[i] = STARTING_ENERGY;
+            clearDuplicatesAt(ERAS[i]);
+        }
+        vortexMask = 0;
+    }
+
+    private int nextFreeDuplicateId() {
+        int freeIds = ~duplicateIdMask & ALL_DUPLICATE_IDS_MASK;
+        return freeIds == 0 ? -1 : Integer.numberOfTrailingZeros(freeIds) + 1;
+    }
+
+    private Duplicate obtainDuplicate(int id, Era spawnEra, Era currentEra, int turnsActive) {
+        if (duplicatePool != null && !duplicatePool.isEmpty()) {
+            Duplicate duplicate = duplicatePool.pop();
+            duplicate.reinitialize(id, spawnEra, currentEra, turnsActive);
+            return duplicate;
+        }
+        return new Duplicate(id, spawnEra, currentEra, turnsActive);
+    }
+
+    private void recycleDuplicate(Duplicate duplicate) {
+        duplicateIdMask &= ~duplicateIdBit(duplicate.getId());
+        if (duplicatePool != null) {
+            duplicatePool.push(duplicate);
+        }
+    }
+
+    private static int duplicateIdBit(int id) {
+        return id >= 1 && id <= DUPLICATE_BAG_SIZE ? 1 << (id - 1) : 0;
+    }
+
+    private static int vortexBit(Era era) {
+        return 1 << era.ordinal();
+    }
+
+    private static int indexOfMax(int[] values) {
+        int maxIndex = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[maxIndex]) {
+                maxIndex = i;
+            }
         }
-        vortexes.clear();
+        return maxIndex;
     }
-}
\ No newline at end of file
+}
@@ -12,7 +12,7 @@ import java.util.*;
 public class GameState implements Serializable {
 
     private static final long serialVersionUID = 1L;
-    private static final int MAX_DUPLICATES_IN_BAG = 28;
+    private static final int MAX_DUPLICATES_IN_BAG = GameResources.DUPLICATE_BAG_SIZE;
 
     @NonNull private Era drFooPosition;
     private int drFooMovesThisCycle;
@@ -51,11 +51,7 @@ public class GameState implements Serializable {
     }
 
     public int recalculateDuplicatesInBag() {
-        int duplicatesOnBoard = 0;
-        for (Era era : Era.values()) {
-            duplicatesOnBoard += getDuplicateCount(era);
-        }
-        return Math.max(0, MAX_DUPLICATES_IN_BAG - duplicatesOnBoard);
+        return Math.max(0, MAX_DUPLICATES_IN_BAG - getTotalDuplicates());
     }
 
     public void savePlayerState(Player player) {
@@ -116,13 +112,18 @@ public class GameState implements Serializable {
     public int getVortexCount() { return resources.getVortexCount(); }
 
     public List<Duplicate> getDuplicatesAt(Era era) { return resources.getDuplicatesAt(era); }
+    public Duplicate spawnDuplicate(Era era) { return resources.spawnDuplicate(era); }
     public void addDuplicate(Era era, Duplicate duplicate) { resources.addDuplicate(era, duplicate); }
     public boolean removeDuplicate(Era era, Duplicate duplicate) { return resources.removeDuplicate(era, duplicate); }
+    public boolean moveDuplicate(Era sourceEra, Era targetEra, Duplicate duplicate) {
+        return resources.moveDuplicate(sourceEra, targetEra, duplicate);
+    }
     public int getDuplicateCount(Era era) { return resources.getDuplicateCount(era); }
+    public int getTotalDuplicates() { return resources.getTotalDuplicates(); }
 
     public void clearDuplicatesAt(Era era) {
-        if (resources != null && resources.getDuplicates() != null) {
-            resources.getDuplicates().get(era).clear();
+        if (resources != null) {
+            resources.clearDuplicatesAt(era);
         }
     }
 
@@ -3,16 +3,21 @@ package hr.algebra.theloop.model;
 import hr.algebra.theloop.missions.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.With;
 
 import java.io.Serializable;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Objects;
 
 @Data
 @AllArgsConstructor
 public class NetworkGameState implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
+
+    public static final long FULL_SNAPSHOT = -1;
+    private static final int ALL_ERAS_MASK = (1 << Era.values().length) - 1;
 
     private int turnNumber;
     private Era drFooPosition;
@@ -38,9 +43,22 @@ public class NetworkGameState implements Serializable {
     private List<MissionData> completedMissions;
     private int totalMissionsCompleted;
 
+    // Era arrays and duplicateDetails only hold the eras set in changedEraMask, in ordinal order.
+    // Mission lists are null when unchanged; playerStates holds only the players in changedPlayerMask.
+    @With
+    private long version;
+    private long baseVersion;
+    private int changedEraMask;
+    private int changedPlayerMask;
+    private int playerCount;
+
     @Data
     @AllArgsConstructor
     public static class DuplicateInfo implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private int id;
         private Era spawnEra;
         private Era destroyEra;
         private Era currentEra;
@@ -48,6 +66,7 @@ public class NetworkGameState implements Serializable {
 
         public static DuplicateInfo fromDuplicate(Duplicate dup) {
             return new DuplicateInfo(
+                    dup.getId(),
                     dup.getSpawnEra(),
                     dup.getDestroyEra(),
                     dup.getCurrentEra(),
@@ -56,13 +75,16 @@ public class NetworkGameState implements Serializable {
         }
 
         public Duplicate toDuplicate() {
-            return new Duplicate(spawnEra, currentEra, turnsActive);
+            return new Duplicate(id, spawnEra, currentEra, turnsActive);
         }
     }
 
     @Data
     @AllArgsConstructor
     public static class MissionData implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
         private String name;
         private String description;
         private Era assignedEra;
@@ -120,6 +142,7 @@ public class NetworkGameState implements Serializable {
         populateEraData(builder, gameState, eras);
         List<MissionData> activeMissionsData = convertMissions(gameState.getActiveMissions());
         List<MissionData> completedMissionsData = convertMissions(gameState.getCompletedMissions());
+        List<PlayerData> playerStatesCopy = new ArrayList<>(gameState.getPlayerStates());
 
         return new NetworkGameState(
                 gameState.getTurnNumber(),
@@ -132,17 +155,180 @@ public class NetworkGameState implements Serializable {
                 builder.vortex,
                 builder.duplicates,
                 builder.duplicateDetails,
-                gameState.getPlayerStates(),
+                playerStatesCopy,
                 gameState.getCurrentPlayerIndex(),
                 playerMode,
                 lastAction,
                 lastPlayerName,
                 activeMissionsData,
                 completedMissionsData,
-                gameState.getTotalMissionsCompleted()
+                gameState.getTotalMissionsCompleted(),
+                0,
+                FULL_SNAPSHOT,
+                ALL_ERAS_MASK,
+                allPlayersMask(playerStatesCopy.size()),
+                playerStatesCopy.size()
+        );
+    }
+
+    public boolean isFullSnapshot() {
+        return baseVersion == FULL_SNAPSHOT;
+    }
+
+    public boolean isEraChanged(Era era) {
+        return (changedEraMask & (1 << era.ordinal())) != 0;
+    }
+
+    public static NetworkGameState delta(NetworkGameState base, NetworkGameState current) {
+        return diff(base, current, false);
+    }
+
+    public NetworkGameState changesSince(NetworkGameState previous) {
+        return diff(previous, this, true);
+    }
+
+    private static NetworkGameState diff(NetworkGameState base, NetworkGameState current, boolean fullPlayerList) {
+        Era[] eras = Era.values();
+        int eraMask = 0;
+        for (Era era : eras) {
+            if (!base.sameEraAs(current, era.ordinal())) {
+                eraMask |= 1 << era.ordinal();
+            }
+        }
+
+        int changedEras = Integer.bitCount(eraMask);
+        NetworkStateBuilder builder = new NetworkStateBuilder(changedEras);
+        int index = 0;
+        for (Era era : eras) {
+            if ((eraMask & (1 << era.ordinal())) != 0) {
+                current.copyEraTo(builder, era.ordinal(), index++);
+            }
+        }
+
+        List<PlayerData> basePlayers = base.playerStates;
+        List<PlayerData> currentPlayers = current.playerStates;
+        int playerMask = 0;
+        List<PlayerData> changedPlayers = new ArrayList<>();
+        for (int i = 0; i < currentPlayers.size(); i++) {
+            PlayerData previous = i < basePlayers.size() ? basePlayers.get(i) : null;
+            if (!currentPlayers.get(i).sameStateAs(previous)) {
+                playerMask |= 1 << i;
+                changedPlayers.add(currentPlayers.get(i));
+            }
+        }
+
+        boolean playersChanged = playerMask != 0 || basePlayers.size() != currentPlayers.size();
+        List<PlayerData> sentPlayers = null;
+        if (playersChanged) {
+            sentPlayers = fullPlayerList ? currentPlayers : changedPlayers;
+        }
+
+        return new NetworkGameState(
+                current.turnNumber,
+                current.drFooPosition,
+                current.currentCycle,
+                current.gameOver,
+                current.gameResult,
+                builder.rifts,
+                builder.energy,
+                builder.vortex,
+                builder.duplicates,
+                builder.duplicateDetails,
+                sentPlayers,
+                current.currentPlayerIndex,
+                current.activePlayerMode,
+                current.lastAction,
+                current.lastPlayerName,
+                Objects.equals(base.activeMissions, current.activeMissions) ? null : current.activeMissions,
+                Objects.equals(base.completedMissions, current.completedMissions) ? null : current.completedMissions,
+                current.totalMissionsCompleted,
+                current.version,
+                base.version,
+                eraMask,
+                fullPlayerList && playersChanged ? allPlayersMask(currentPlayers.size()) : playerMask,
+                currentPlayers.size()
+        );
+    }
+
+    public NetworkGameState applyDelta(NetworkGameState delta) {
+        if (delta.isFullSnapshot()) {
+            return delta;
+        }
+
+        Era[] eras = Era.values();
+        NetworkStateBuilder builder = new NetworkStateBuilder(eras.length);
+        int deltaIndex = 0;
+        for (Era era : eras) {
+            if (delta.isEraChanged(era)) {
+                delta.copyEraTo(builder, deltaIndex++, era.ordinal());
+            } else {
+                copyEraTo(builder, era.ordinal(), era.ordinal());
+            }
+        }
+
+        return new NetworkGameState(
+                delta.turnNumber,
+                delta.drFooPosition,
+                delta.currentCycle,
+                delta.gameOver,
+                delta.gameResult,
+                builder.rifts,
+                builder.energy,
+                builder.vortex,
+                builder.duplicates,
+                builder.duplicateDetails,
+                mergePlayerStates(delta),
+                delta.currentPlayerIndex,
+                delta.activePlayerMode,
+                delta.lastAction,
+                delta.lastPlayerName,
+                delta.activeMissions != null ? delta.activeMissions : activeMissions,
+                delta.completedMissions != null ? delta.completedMissions : completedMissions,
+                delta.totalMissionsCompleted,
+                delta.version,
+                FULL_SNAPSHOT,
+                ALL_ERAS_MASK,
+                allPlayersMask(delta.playerCount),
+                delta.playerCount
         );
     }
 
+    private List<PlayerData> mergePlayerStates(NetworkGameState delta) {
+        if (delta.playerStates == null) {
+            return playerStates;
+        }
+
+        List<PlayerData> merged = new ArrayList<>(delta.playerCount);
+        int deltaIndex = 0;
+        for (int i = 0; i < delta.playerCount; i++) {
+            if ((delta.changedPlayerMask & (1 << i)) != 0) {
+                merged.add(delta.playerStates.get(deltaIndex++));
+            } else {
+                merged.add(playerStates.get(i));
+            }
+        }
+        return merged;
+    }
+
+    private boolean sameEraAs(NetworkGameState other, int ordinal) {
+        return riftsPerEra[ordinal] == other.riftsPerEra[ordinal]
+                && energyPerEra[ordinal] == other.energyPerEra[ordinal]
+                && vortexPerEra[ordinal] == other.vortexPerEra[ordinal]
+                && duplicateDetails.get(ordinal).equals(other.duplicateDetails.get(ordinal));
+    }
+
+    private void copyEraTo(NetworkStateBuilder builder, int sourceIndex, int targetIndex) {
+        builder.rifts[targetIndex] = riftsPerEra[sourceIndex];
+        builder.energy[targetIndex] = energyPerEra[sourceIndex];
+        builder.vortex[targetIndex] = vortexPerEra[sourceIndex];
+        builder.duplicates[targetIndex] = duplicateCountPerEra[sourceIndex];
+        builder.duplicateDetails.add(duplicateDetails.get(sourceIndex));
+    }
+
+    private static int allPlayersMask(int playerCount) {
+        return (1 << playerCount) - 1;
+    }
+
     private static void populateEraData(NetworkStateBuilder builder, GameState gameState, Era[] eras) {
         for (int i = 0; i < eras.length; i++) {
             Era era = eras[i];
@@ -189,36 +375,35 @@ public class NetworkGameState implements Serializable {
     }
 
     private void updateErasData(GameState gameState) {
+        GameResources resources = gameState.getResources();
         Era[] eras = Era.values();
-        for (int i = 0; i < eras.length; i++) {
-            Era era = eras[i];
-            updateSingleEra(gameState, era, i);
-        }
-    }
 
-    private void updateSingleEra(GameState gameState, Era era, int index) {
-        gameState.getResources().getRifts().put(era, riftsPerEra[index]);
-        gameState.getResources().getEnergy().put(era, energyPerEra[index]);
-
-        updateVortexState(gameState, era, index);
-        updateDuplicatesForEra(gameState, era, index);
-    }
+        int index = 0;
+        for (Era era : eras) {
+            if (isEraChanged(era)) {
+                updateSingleEra(resources, era, index++);
+            }
+        }
 
-    private void updateVortexState(GameState gameState, Era era, int index) {
-        if (vortexPerEra[index]) {
-            gameState.getResources().getVortexes().add(era);
-        } else {
-            gameState.getResources().getVortexes().remove(era);
+        index = 0;
+        for (Era era : eras) {
+            if (isEraChanged(era)) {
+                updateDuplicatesForEra(resources, era, index++);
+            }
         }
     }
 
-    private void updateDuplicatesForEra(GameState gameState, Era era, int index) {
-        gameState.getResources().getDuplicates().get(era).clear();
+    private void updateSingleEra(GameResources resources, Era era, int index) {
+        resources.setRifts(era, riftsPerEra[index]);
+        resources.setEnergy(era, energyPerEra[index]);
+        resources.setVortex(era, vortexPerEra[index]);
+        resources.clearDuplicatesAt(era);
+    }
 
+    private void updateDuplicatesForEra(GameResources resources, Era era, int index) {
         if (duplicateDetails != null && index < duplicateDetails.size()) {
             for (DuplicateInfo dupInfo : duplicateDetails.get(index)) {
-                Duplicate newDup = dupInfo.toDuplicate();
-                gameState.getResources().getDuplicates().get(era).add(newDup);
+                resources.restoreDuplicate(era, dupInfo.getId(), dupInfo.getSpawnEra(), dupInfo.getTurnsActive());
             }
         }
     }
@@ -241,7 +426,7 @@ public class NetworkGameState implements Serializable {
 
     private void updatePlayerStates(GameState gameState) {
         if (playerStates != null) {
-            gameState.setPlayerStates(playerStates);
+            gameState.setPlayerStates(new ArrayList<>(playerStates));
         }
     }
 
@@ -7,10 +7,13 @@ import lombok.NonNull;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @Data
 public class Player implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     @NonNull private String name;
     @NonNull private Era currentEra;
     private String agentIcon;
@@ -81,8 +84,8 @@ public class Player implements Serializable {
         deckManager.addCardToDeck(card);
     }
 
-    public void drawToFullHand() {
-        deckManager.drawToFullHand();
+    public void drawToFullHand(RandomGenerator random) {
+        deckManager.drawToFullHand(random);
     }
 
     public void discardHand() {
@@ -7,6 +7,7 @@ import lombok.Data;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 
 @Data
@@ -32,6 +33,8 @@ public class PlayerData implements Serializable {
     private int riftsRemoved;
     private int missionsContributed;
 
+    private long stateSignature;
+
     public PlayerData(Player player) {
         this.name = player.getName();
         this.currentEra = player.getCurrentEra();
@@ -49,6 +52,31 @@ public class PlayerData implements Serializable {
         this.energySpent = player.getEnergySpent();
         this.riftsRemoved = player.getRiftsRemoved();
         this.missionsContributed = player.getMissionsContributed();
+
+        this.stateSignature = computeStateSignature();
+    }
+
+    public boolean sameStateAs(PlayerData other) {
+        return other != null && stateSignature != 0 && stateSignature == other.stateSignature;
+    }
+
+    // Cards are shared with the live player; exhausted flags are captured here
+    private long computeStateSignature() {
+        long signature = Objects.hash(name, currentEra, agentIcon, batteriesFull, loopsPerformedThisTurn,
+                isCurrentPlayer, cardsPlayed, energySpent, riftsRemoved, missionsContributed);
+        signature = signCards(signature, hand);
+        signature = signCards(signature, deck);
+        signature = signCards(signature, discardPile);
+        return signature == 0 ? 1 : signature;
+    }
+
+    private static long signCards(long signature, List<ArtifactCard> cards) {
+        signature = signature * 31 + cards.size();
+        for (ArtifactCard card : cards) {
+            signature = signature * 31 + card.getName().hashCode();
+            signature = signature * 31 + (card.isExhausted() ? 1 : 0);
+        }
+        return signature;
     }
 
     public void restoreToPlayer(Player player) {
@@ -7,10 +7,13 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 @Data
 public class PlayerDeckManager implements Serializable {
 
+    private static final long serialVersionUID = 1L;
+
     private List<ArtifactCard> hand;
     private List<ArtifactCard> deck;
     private List<ArtifactCard> discardPile;
@@ -31,7 +34,7 @@ public class PlayerDeckManager implements Serializable {
         deck.add(card);
     }
 
-    public void drawToFullHand() {
+    public void drawToFullHand(RandomGenerator random) {
         while (hand.size() < 3) {
             if (deck.isEmpty() && !discardPile.isEmpty()) {
                 for (ArtifactCard card : discardPile) {
@@ -39,7 +42,7 @@ public class PlayerDeckManager implements Serializable {
                 }
                 deck.addAll(discardPile);
                 discardPile.clear();
-                Collections.shuffle(deck);
+                Collections.shuffle(deck, random);
             }
 
             if (deck.isEmpty()) break;
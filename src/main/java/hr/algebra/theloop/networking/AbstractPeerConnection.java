@@ -0,0 +1,139 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.jfr.StateReceiveEvent;
+import hr.algebra.theloop.jfr.StateSendEvent;
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+public abstract class AbstractPeerConnection implements Closeable {
+
+    private final BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler;
+    private final DeltaSyncSession syncSession = new DeltaSyncSession();
+    private final Object sendLock = new Object();
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final CountDownLatch closedLatch = new CountDownLatch(1);
+    private final List<Runnable> closeListeners = new ArrayList<>();
+
+    protected AbstractPeerConnection(BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler) {
+        this.messageHandler = messageHandler;
+    }
+
+    protected abstract void writeFrame(byte[] frame) throws IOException;
+
+    protected abstract void closeTransport() throws IOException;
+
+    public abstract SocketAddress getRemoteAddress();
+
+    public boolean send(NetworkGameState snapshot) {
+        if (!open.get()) {
+            return false;
+        }
+
+        StateSendEvent event = new StateSendEvent();
+        event.begin();
+        NetworkGameState encoded = null;
+        byte[] frame = null;
+
+        try {
+            synchronized (sendLock) {
+                encoded = syncSession.encode(snapshot);
+                frame = NetworkingUtils.stateFrame(encoded);
+                writeFrame(frame);
+            }
+            return true;
+        } catch (IOException e) {
+            GameLogger.warning("Network send failed: " + e.getMessage());
+            close();
+            return false;
+        } finally {
+            event.complete(getRemoteAddress(), snapshot.getLastAction(),
+                    encoded == null ? snapshot.getVersion() : encoded.getVersion(),
+                    encoded == null ? -1 : encoded.getBaseVersion(),
+                    frame == null ? 0 : frame.length,
+                    isOpen());
+        }
+    }
+
+    protected void onStateFrame(NetworkGameState message) throws IOException {
+        StateReceiveEvent event = new StateReceiveEvent();
+        event.begin();
+        NetworkGameState changes = syncSession.decode(message);
+
+        if (changes == null) {
+            GameLogger.warning("Missing base version " + message.getBaseVersion() + " - requesting full snapshot");
+            writeControlFrame(NetworkingUtils.resyncFrame());
+            event.complete(getRemoteAddress(), message.getVersion(), message.getBaseVersion(), true);
+            return;
+        }
+
+        writeControlFrame(NetworkingUtils.ackFrame(message.getVersion()));
+        messageHandler.accept(this, changes);
+        event.complete(getRemoteAddress(), message.getVersion(), message.getBaseVersion(), false);
+    }
+
+    protected void onAckFrame(long version) {
+        syncSession.acknowledge(version);
+    }
+
+    protected void onResyncFrame() {
+        NetworkGameState latest = syncSession.resetForResync();
+        if (latest != null) {
+            send(latest);
+        }
+    }
+
+    private void writeControlFrame(byte[] frame) throws IOException {
+        synchronized (sendLock) {
+            writeFrame(frame);
+        }
+    }
+
+    public void addCloseListener(Runnable listener) {
+        synchronized (closeListeners) {
+            if (open.get()) {
+                closeListeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    public void awaitClosed() throws InterruptedException {
+        closedLatch.await();
+    }
+
+    public boolean isOpen() {
+        return open.get();
+    }
+
+    @Override
+    public void close() {
+        if (!open.compareAndSet(true, false)) {
+            return;
+        }
+
+        try {
+            closeTransport();
+        } catch (IOException e) {
+            GameLogger.warning("Error closing peer connection: " + e.getMessage());
+        } finally {
+            closedLatch.countDown();
+
+            List<Runnable> listeners;
+            synchronized (closeListeners) {
+                listeners = List.copyOf(closeListeners);
+                closeListeners.clear();
+            }
+            listeners.forEach(Runnable::run);
+        }
+    }
+}
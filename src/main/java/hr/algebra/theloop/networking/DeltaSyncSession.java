@@ -0,0 +1,83 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.model.NetworkGameState;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class DeltaSyncSession {
+
+    static final int FULL_SNAPSHOT_INTERVAL = 20;
+    private static final int HISTORY_SIZE = 32;
+
+    private long nextVersion = 1;
+    private int deltasSinceFullSnapshot;
+    private NetworkGameState acknowledged;
+    private NetworkGameState latestSent;
+    private final Map<Long, NetworkGameState> unacknowledged = boundedHistory();
+
+    private NetworkGameState lastApplied;
+    private final Map<Long, NetworkGameState> received = boundedHistory();
+
+    synchronized NetworkGameState encode(NetworkGameState snapshot) {
+        NetworkGameState versioned = snapshot.withVersion(nextVersion++);
+        unacknowledged.put(versioned.getVersion(), versioned);
+        latestSent = versioned;
+
+        if (acknowledged == null || deltasSinceFullSnapshot >= FULL_SNAPSHOT_INTERVAL) {
+            deltasSinceFullSnapshot = 0;
+            return versioned;
+        }
+
+        deltasSinceFullSnapshot++;
+        return NetworkGameState.delta(acknowledged, versioned);
+    }
+
+    synchronized void acknowledge(long version) {
+        if (acknowledged != null && version <= acknowledged.getVersion()) {
+            return;
+        }
+
+        NetworkGameState snapshot = unacknowledged.get(version);
+        if (snapshot != null) {
+            acknowledged = snapshot;
+            unacknowledged.keySet().removeIf(v -> v < version);
+        }
+    }
+
+    synchronized NetworkGameState resetForResync() {
+        acknowledged = null;
+        return latestSent;
+    }
+
+    // Null when the delta's base version is unknown
+    synchronized NetworkGameState decode(NetworkGameState message) {
+        NetworkGameState snapshot;
+        if (message.isFullSnapshot()) {
+            snapshot = message;
+        } else {
+            NetworkGameState base = received.get(message.getBaseVersion());
+            if (base == null) {
+                return null;
+            }
+            snapshot = base.applyDelta(message);
+        }
+
+        received.put(snapshot.getVersion(), snapshot);
+
+        NetworkGameState changes = message.isFullSnapshot() || lastApplied == null
+                ? snapshot
+                : snapshot.changesSince(lastApplied);
+        lastApplied = snapshot;
+        return changes;
+    }
+
+    private static Map<Long, NetworkGameState> boundedHistory() {
+        return new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, NetworkGameState> eldest) {
+                return size() > HISTORY_SIZE;
+            }
+        };
+    }
+}
@@ -3,36 +3,37 @@ package hr.algebra.theloop.networking;
 import hr.algebra.theloop.model.NetworkGameState;
 import hr.algebra.theloop.model.PlayerMode;
 import hr.algebra.theloop.utils.GameLogger;
-import javafx.application.Platform;
 
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-public class GameServer implements Runnable {
+public class GameServer implements PeerServer {
 
     private final int port;
+    private final int maxConnections;
     private final PlayerMode playerMode;
-    private final Consumer<NetworkGameState> gameStateUpdateCallback;
+    private final BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler;
+    private final Consumer<AbstractPeerConnection> connectionListener;
+    private final AtomicInteger activeConnections = new AtomicInteger();
     private volatile boolean running = false;
     private ServerSocket serverSocket;
 
-    public GameServer(PlayerMode playerMode, Consumer<NetworkGameState> gameStateUpdateCallback) {
+    public GameServer(PlayerMode playerMode, int port, int maxConnections,
+                      BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler,
+                      Consumer<AbstractPeerConnection> connectionListener) {
         this.playerMode = playerMode;
-        this.port = NetworkingUtils.getListeningPort(playerMode);
-        this.gameStateUpdateCallback = gameStateUpdateCallback;
+        this.port = port;
+        this.maxConnections = maxConnections;
+        this.messageHandler = messageHandler;
+        this.connectionListener = connectionListener;
     }
 
     @Override
     public void run() {
-        if (port == -1) {
-            GameLogger.gameFlow("Single player mode - no server needed");
-            return;
-        }
-
         running = true;
         startServerLoop();
     }
@@ -54,11 +55,16 @@ public class GameServer implements Runnable {
     private void acceptClientConnections() {
         try {
             Socket clientSocket = serverSocket.accept();
-            GameLogger.gameFlow("Player connected from: " + clientSocket.getRemoteSocketAddress());
 
-            Thread clientHandler = new Thread(() -> processClient(clientSocket));
-            clientHandler.setDaemon(true);
-            clientHandler.start();
+            if (activeConnections.get() >= maxConnections) {
+                GameLogger.warning("Connection limit reached (" + maxConnections + ") - rejected " +
+                        clientSocket.getRemoteSocketAddress());
+                clientSocket.close();
+                return;
+            }
+
+            GameLogger.gameFlow("Player connected from: " + clientSocket.getRemoteSocketAddress());
+            openConnection(clientSocket);
 
         } catch (IOException e) {
             if (running) {
@@ -67,38 +73,21 @@ public class GameServer implements Runnable {
         }
     }
 
-    private void processClient(Socket clientSocket) {
-        try (Socket socket = clientSocket) {
-            handleClientCommunication(socket);
-        } catch (IOException e) {
-            GameLogger.error("Error processing client: " + e.getMessage());
-        }
-    }
-
-    private void handleClientCommunication(Socket clientSocket) throws IOException {
-        try (ObjectOutputStream oos = new ObjectOutputStream(clientSocket.getOutputStream());
-             ObjectInputStream ois = new ObjectInputStream(clientSocket.getInputStream())) {
-
-            NetworkGameState receivedState = (NetworkGameState) ois.readObject();
-
-            GameLogger.gameFlow("Received game state from " + receivedState.getActivePlayerMode() +
-                    " - Last action: " + receivedState.getLastAction());
-
-            Platform.runLater(() -> {
-                if (gameStateUpdateCallback != null) {
-                    gameStateUpdateCallback.accept(receivedState);
-                }
-            });
-
-            oos.writeObject("Game state received successfully");
-            oos.flush();
+    private void openConnection(Socket clientSocket) throws IOException {
+        try {
+            PeerConnection connection = new PeerConnection(clientSocket, messageHandler);
+            activeConnections.incrementAndGet();
+            connection.addCloseListener(activeConnections::decrementAndGet);
 
-        } catch (ClassNotFoundException e) {
-            GameLogger.error("Error deserializing game state: " + e.getMessage());
-            throw new IOException("Failed to deserialize game state", e);
+            connectionListener.accept(connection);
+            connection.startReading();
+        } catch (IOException e) {
+            clientSocket.close();
+            throw e;
         }
     }
 
+    @Override
     public void stop() {
         running = false;
 
@@ -113,7 +102,13 @@ public class GameServer implements Runnable {
         GameLogger.gameFlow("Game server stopped");
     }
 
+    @Override
     public boolean isRunning() {
         return running;
     }
-}
\ No newline at end of file
+
+    @Override
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+}
@@ -1,20 +1,40 @@
 package hr.algebra.theloop.networking;
 
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
 import hr.algebra.theloop.model.*;
 import hr.algebra.theloop.utils.GameLogger;
+import hr.algebra.theloop.utils.LogCategory;
 
-import java.util.function.Consumer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 
 public class NetworkManager {
 
+    private static final long INITIAL_RECONNECT_DELAY_MS = 250;
+    private static final long MAX_RECONNECT_DELAY_MS = 5000;
+
     private PlayerMode playerMode = PlayerMode.SINGLE_PLAYER;
-    private GameServer gameServer;
+    private PeerServer peerServer;
     private Thread serverThread;
+    private Thread connectorThread;
+    private final List<AbstractPeerConnection> peers = new CopyOnWriteArrayList<>();
+    private volatile NetworkGameState lastSentState;
     private volatile boolean enabled = false;
-    private final Consumer<NetworkGameState> updateCallback;
+    private volatile String sessionId;
+    private boolean sessionHosted = false;
+    private final BiConsumer<AbstractPeerConnection, NetworkGameState> updateCallback;
+    private final UIUpdateDispatcher updateDispatcher;
+
+    private volatile Runnable peerClosedListener;
 
-    public NetworkManager(Consumer<NetworkGameState> updateCallback) {
+    public NetworkManager(BiConsumer<AbstractPeerConnection, NetworkGameState> updateCallback,
+                          UIUpdateDispatcher updateDispatcher) {
         this.updateCallback = updateCallback;
+        this.updateDispatcher = updateDispatcher;
     }
 
     public void setPlayerMode(PlayerMode playerMode) {
@@ -28,17 +48,159 @@ public class NetworkManager {
     }
 
     public void start() {
+        start(ServerMode.fromConfigValue(NetworkingUtils.SERVER_IMPLEMENTATION));
+    }
+
+    public void start(ServerMode serverMode) {
         if (enabled || playerMode == PlayerMode.SINGLE_PLAYER) {
             return;
         }
 
-        gameServer = new GameServer(playerMode, updateCallback);
-        serverThread = new Thread(gameServer, "GameServer-" + playerMode);
+        enabled = true;
+
+        if (sessionHosted) {
+            GameLogger.gameFlow("NetworkManager attached to session host");
+            return;
+        }
+
+        if (sessionId == null) {
+            sessionId = NetworkingUtils.getConfiguredSessionId();
+        }
+
+        if (playerMode == PlayerMode.PLAYER_ONE && sessionId == null) {
+            startHost(serverMode);
+        } else {
+            startConnector();
+        }
+
+        GameLogger.gameFlow("NetworkManager started for " + playerMode);
+    }
+
+    private void startHost(ServerMode serverMode) {
+        int port = NetworkingUtils.getHostPort();
+        int maxConnections = NetworkingUtils.MAX_PEER_CONNECTIONS;
+
+        peerServer = switch (serverMode) {
+            case NIO_SELECTOR -> new NioGameServer(playerMode, port, maxConnections,
+                    this::handleIncomingState, this::acceptPeer);
+            case VIRTUAL_THREADS -> new GameServer(playerMode, port, maxConnections,
+                    this::handleIncomingState, this::acceptPeer);
+        };
+
+        serverThread = new Thread(peerServer, "GameServer-" + playerMode);
         serverThread.setDaemon(true);
         serverThread.start();
+        GameLogger.gameFlow("Hosting with " + serverMode.getConfigValue() + " server, max " + maxConnections + " peers");
+    }
 
-        enabled = true;
-        GameLogger.gameFlow("NetworkManager started for " + playerMode);
+    private void acceptPeer(AbstractPeerConnection connection) {
+        registerPeer(connection);
+
+        NetworkGameState latestState = lastSentState;
+        if (latestState != null) {
+            connection.send(latestState);
+        }
+    }
+
+    public void attachHostedPeer(Socket socket) throws IOException {
+        PeerConnection connection = new PeerConnection(socket, this::handleIncomingState);
+        acceptPeer(connection);
+        connection.startReading();
+    }
+
+    private void registerPeer(AbstractPeerConnection connection) {
+        peers.add(connection);
+        connection.addCloseListener(() -> {
+            peers.remove(connection);
+
+            Runnable listener = peerClosedListener;
+            if (listener != null) {
+                listener.run();
+            }
+        });
+    }
+
+    public void setPeerClosedListener(Runnable listener) {
+        this.peerClosedListener = listener;
+    }
+
+    private void startConnector() {
+        connectorThread = Thread.ofVirtual()
+                .name("PeerConnector-" + playerMode)
+                .start(this::maintainConnectionToHost);
+    }
+
+    private void maintainConnectionToHost() {
+        long reconnectDelay = INITIAL_RECONNECT_DELAY_MS;
+
+        while (enabled && !Thread.currentThread().isInterrupted()) {
+            try {
+                PeerConnection connection = connectToHost();
+                if (connection != null) {
+                    reconnectDelay = INITIAL_RECONNECT_DELAY_MS;
+                    connection.awaitClosed();
+                    continue;
+                }
+
+                Thread.sleep(reconnectDelay);
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MS);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private PeerConnection connectToHost() {
+        String host = NetworkingUtils.DEFAULT_HOST;
+        int port = NetworkingUtils.getHostPort();
+
+        try {
+            Socket socket = new Socket();
+            socket.connect(new InetSocketAddress(host, port), NetworkingUtils.CONNECTION_TIMEOUT);
+            GameLogger.gameFlow("Connected to host " + host + ":" + port);
+
+            String joinSessionId = sessionId;
+            if (joinSessionId != null) {
+                socket.getOutputStream().write(NetworkingUtils.joinFrame(joinSessionId));
+                GameLogger.gameFlow("Joining session " + joinSessionId);
+            }
+
+            return attachPeer(socket);
+        } catch (IOException e) {
+            GameLogger.gameFlow("Host not reachable at " + host + ":" + port + " - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private PeerConnection attachPeer(Socket socket) {
+        try {
+            PeerConnection connection = new PeerConnection(socket, this::handleIncomingState);
+
+            for (AbstractPeerConnection previous : peers) {
+                previous.close();
+            }
+            registerPeer(connection);
+
+            connection.startReading();
+            return connection;
+
+        } catch (IOException e) {
+            GameLogger.error("Failed to open peer connection: " + e.getMessage());
+            closeQuietly(socket);
+            return null;
+        }
+    }
+
+    private void handleIncomingState(AbstractPeerConnection origin, NetworkGameState receivedState) {
+        GameLogger.log(LogCategory.GAME_FLOW, "Received game state",
+                "from", receivedState.getActivePlayerMode(), "action", receivedState.getLastAction());
+
+        updateDispatcher.dispatch(() -> {
+            if (updateCallback != null) {
+                updateCallback.accept(origin, receivedState);
+            }
+        });
     }
 
     public void stop() {
@@ -48,29 +210,88 @@ public class NetworkManager {
 
         enabled = false;
 
-        if (gameServer != null) {
-            gameServer.stop();
+        if (peerServer != null) {
+            peerServer.stop();
         }
 
         if (serverThread != null && serverThread.isAlive()) {
             serverThread.interrupt();
         }
 
+        if (connectorThread != null) {
+            connectorThread.interrupt();
+        }
+
+        for (AbstractPeerConnection connection : peers) {
+            connection.close();
+        }
+
         GameLogger.gameFlow("NetworkManager stopped");
     }
 
     public boolean sendGameState(GameState gameState, String lastAction, String playerName) {
+        return sendGameState(gameState, lastAction, playerName, null);
+    }
+
+    public boolean sendGameState(GameState gameState, String lastAction, String playerName,
+                                 AbstractPeerConnection excludedPeer) {
         if (!enabled || playerMode == PlayerMode.SINGLE_PLAYER) {
             return false;
         }
 
-        return NetworkingUtils.sendGameState(gameState, playerMode, lastAction, playerName);
+        NetworkGameState networkState = NetworkGameState.fromGameState(gameState, playerMode, lastAction, playerName);
+        lastSentState = networkState;
+
+        if (peers.isEmpty()) {
+            GameLogger.log(LogCategory.WARNING, "No peer connected - skipped broadcast", "action", lastAction);
+            return false;
+        }
+
+        boolean delivered = false;
+        for (AbstractPeerConnection connection : peers) {
+            if (connection != excludedPeer) {
+                delivered |= connection.send(networkState);
+            }
+        }
+        return delivered;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            GameLogger.warning("Error closing socket: " + e.getMessage());
+        }
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionHosted(boolean sessionHosted) {
+        this.sessionHosted = sessionHosted;
+    }
+
+    public boolean isSessionHosted() {
+        return sessionHosted;
     }
 
     public boolean isEnabled() {
         return enabled;
     }
 
+    public boolean isConnected() {
+        return peers.stream().anyMatch(AbstractPeerConnection::isOpen);
+    }
+
+    public int getConnectedPeerCount() {
+        return peers.size();
+    }
+
     public boolean isMultiplayer() {
         return playerMode != PlayerMode.SINGLE_PLAYER;
     }
@@ -78,4 +299,4 @@ public class NetworkManager {
     public PlayerMode getPlayerMode() {
         return playerMode;
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,13 @@
 package hr.algebra.theloop.networking;
 
+import hr.algebra.theloop.codec.GameStateCodec;
 import hr.algebra.theloop.jndi.ConfigurationKey;
 import hr.algebra.theloop.jndi.ConfigurationReader;
-import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.model.NetworkGameState;
-import hr.algebra.theloop.model.PlayerMode;
-import hr.algebra.theloop.utils.GameLogger;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.net.Socket;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 
 public class NetworkingUtils {
@@ -19,64 +16,107 @@ public class NetworkingUtils {
 
     public static final int PLAYER_ONE_PORT =
             ConfigurationReader.getIntegerValueForKey(ConfigurationKey.PLAYER_ONE_SERVER_PORT);
-    static final int PLAYER_TWO_PORT =
-            ConfigurationReader.getIntegerValueForKey(ConfigurationKey.PLAYER_TWO_SERVER_PORT);
     public static final String DEFAULT_HOST =
             ConfigurationReader.getStringValueForKey(ConfigurationKey.HOSTNAME);
+    public static final int CONNECTION_TIMEOUT =
+            ConfigurationReader.getIntegerValueForKey(ConfigurationKey.CONNECTION_TIMEOUT);
 
-    public static boolean sendGameState(GameState gameState, PlayerMode currentPlayerMode,
-                                        String lastAction, String lastPlayerName) {
-        try {
-            int targetPort = getTargetPort(currentPlayerMode);
-            if (targetPort == -1) {
-                return false;
-            }
+    public static final String SERVER_IMPLEMENTATION =
+            ConfigurationReader.getStringValueForKey(ConfigurationKey.SERVER_IMPLEMENTATION);
+    public static final int MAX_PEER_CONNECTIONS =
+            ConfigurationReader.getIntegerValueForKey(ConfigurationKey.MAX_PEER_CONNECTIONS);
 
-            NetworkGameState networkState = NetworkGameState.fromGameState(
-                    gameState, currentPlayerMode, lastAction, lastPlayerName);
+    static final int MAX_FRAME_SIZE = 4 * 1024 * 1024;
 
-            return sendNetworkState(networkState, DEFAULT_HOST, targetPort);
+    static final byte STATE_FRAME = 1;
+    static final byte ACK_FRAME = 2;
+    static final byte RESYNC_FRAME = 3;
+    static final byte JOIN_FRAME = 4;
 
-        } catch (Exception e) {
-            GameLogger.error("Failed to send game state: " + e.getMessage());
-            return false;
-        }
+    public static final int MAX_SESSION_ID_LENGTH = 64;
+
+    static final int STATE_FRAME_HEADER_SIZE = 1 + Integer.BYTES;
+    static final int ACK_FRAME_SIZE = 1 + Long.BYTES;
+    static final int RESYNC_FRAME_SIZE = 1;
+
+    public static int getHostPort() {
+        return PLAYER_ONE_PORT;
+    }
+
+    public static String getConfiguredSessionId() {
+        String sessionId = ConfigurationReader.getStringValueForKey(ConfigurationKey.SESSION_ID);
+        return sessionId == null || sessionId.isBlank() ? null : sessionId.trim();
+    }
+
+    static byte[] stateFrame(NetworkGameState networkState) throws IOException {
+        byte[] payload = serialize(networkState);
+        return ByteBuffer.allocate(STATE_FRAME_HEADER_SIZE + payload.length)
+                .put(STATE_FRAME)
+                .putInt(payload.length)
+                .put(payload)
+                .array();
+    }
+
+    static byte[] ackFrame(long version) {
+        return ByteBuffer.allocate(ACK_FRAME_SIZE)
+                .put(ACK_FRAME)
+                .putLong(version)
+                .array();
+    }
+
+    static byte[] resyncFrame() {
+        return new byte[]{RESYNC_FRAME};
     }
 
-    private static boolean sendNetworkState(NetworkGameState networkState, String host, int port) {
-        try (Socket clientSocket = new Socket(host, port)) {
-            GameLogger.gameFlow("Connecting to " + host + ":" + port);
+    public static byte[] joinFrame(String sessionId) {
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        if (id.length == 0 || id.length > MAX_SESSION_ID_LENGTH) {
+            throw new IllegalArgumentException("Invalid session id: " + sessionId);
+        }
 
-            try (ObjectOutputStream oos = new ObjectOutputStream(clientSocket.getOutputStream());
-                 ObjectInputStream ois = new ObjectInputStream(clientSocket.getInputStream())) {
+        return ByteBuffer.allocate(2 + id.length)
+                .put(JOIN_FRAME)
+                .put((byte) id.length)
+                .put(id)
+                .array();
+    }
+
+    public static String readJoinFrame(DataInputStream input) throws IOException {
+        byte frameType = input.readByte();
+        if (frameType != JOIN_FRAME) {
+            throw new IOException("Expected join frame, got type " + frameType);
+        }
 
-                oos.writeObject(networkState);
-                oos.flush();
+        int length = input.readUnsignedByte();
+        if (length == 0 || length > MAX_SESSION_ID_LENGTH) {
+            throw new IOException("Invalid session id length: " + length);
+        }
 
-                String response = (String) ois.readObject();
-                GameLogger.success("Network response: " + response);
-                return true;
-            }
+        byte[] id = new byte[length];
+        input.readFully(id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
 
-        } catch (IOException | ClassNotFoundException e) {
-            GameLogger.warning("Network send failed: " + e.getMessage());
-            return false;
+    static void validateFrameLength(int length) throws IOException {
+        if (length <= 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException("Invalid frame length: " + length);
         }
     }
 
-    private static int getTargetPort(PlayerMode currentMode) {
-        return switch (currentMode) {
-            case PLAYER_ONE -> PLAYER_TWO_PORT;
-            case PLAYER_TWO -> PLAYER_ONE_PORT;
-            case SINGLE_PLAYER -> -1;
-        };
+    static NetworkGameState readStatePayload(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        validateFrameLength(length);
+
+        byte[] payload = new byte[length];
+        input.readFully(payload);
+        return deserialize(payload);
+    }
+
+    static byte[] serialize(NetworkGameState networkState) throws IOException {
+        return GameStateCodec.encode(networkState);
     }
 
-    public static int getListeningPort(PlayerMode playerMode) {
-        return switch (playerMode) {
-            case PLAYER_ONE -> PLAYER_ONE_PORT;
-            case PLAYER_TWO -> PLAYER_TWO_PORT;
-            case SINGLE_PLAYER -> -1;
-        };
+    static NetworkGameState deserialize(byte[] payload) throws IOException {
+        return GameStateCodec.decodeNetworkState(payload);
     }
-}
\ No newline at end of file
+}
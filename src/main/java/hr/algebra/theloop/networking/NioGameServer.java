@@ -0,0 +1,185 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.model.PlayerMode;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.*;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public class NioGameServer implements PeerServer {
+
+    private static final long SELECT_TIMEOUT_MS = 500;
+
+    private final int port;
+    private final int maxConnections;
+    private final PlayerMode playerMode;
+    private final BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler;
+    private final Consumer<AbstractPeerConnection> connectionListener;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+    private volatile boolean running = false;
+    private volatile Selector selector;
+
+    public NioGameServer(PlayerMode playerMode, int port, int maxConnections,
+                         BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler,
+                         Consumer<AbstractPeerConnection> connectionListener) {
+        this.playerMode = playerMode;
+        this.port = port;
+        this.maxConnections = maxConnections;
+        this.messageHandler = messageHandler;
+        this.connectionListener = connectionListener;
+    }
+
+    @Override
+    public void run() {
+        running = true;
+
+        try (Selector openedSelector = Selector.open();
+             ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+
+            this.selector = openedSelector;
+            serverChannel.bind(new InetSocketAddress(port));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(openedSelector, SelectionKey.OP_ACCEPT);
+
+            GameLogger.gameFlow("NIO game server listening on port: " + port + " (Mode: " + playerMode + ")");
+
+            while (running && !Thread.currentThread().isInterrupted()) {
+                openedSelector.select(SELECT_TIMEOUT_MS);
+                processSelectedKeys(openedSelector);
+            }
+
+            closeAllConnections(openedSelector);
+
+        } catch (IOException e) {
+            GameLogger.error("Failed to start NIO game server on port " + port + ": " + e.getMessage());
+        } finally {
+            running = false;
+        }
+    }
+
+    private void processSelectedKeys(Selector activeSelector) {
+        Iterator<SelectionKey> keys = activeSelector.selectedKeys().iterator();
+
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+
+            try {
+                if (!key.isValid()) {
+                    continue;
+                }
+
+                if (key.isAcceptable()) {
+                    acceptConnection((ServerSocketChannel) key.channel(), activeSelector);
+                    continue;
+                }
+
+                NioPeerConnection connection = (NioPeerConnection) key.attachment();
+                if (key.isReadable()) {
+                    connection.onReadable();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    connection.onWritable();
+                }
+            } catch (CancelledKeyException e) {
+                // connection closed while its key was selected
+            } catch (RuntimeException e) {
+                dropFailedConnection(key, e);
+            }
+        }
+    }
+
+    private void dropFailedConnection(SelectionKey key, RuntimeException e) {
+        if (key.attachment() instanceof NioPeerConnection connection) {
+            GameLogger.error("Dropping peer " + connection.getRemoteAddress() + " after error: " + e);
+            connection.close();
+        } else {
+            GameLogger.error("Error handling server socket event: " + e);
+        }
+    }
+
+    private void acceptConnection(ServerSocketChannel serverChannel, Selector activeSelector) {
+        SocketChannel channel = null;
+
+        try {
+            channel = serverChannel.accept();
+            if (channel == null) {
+                return;
+            }
+
+            if (activeConnections.get() >= maxConnections) {
+                GameLogger.warning("Connection limit reached (" + maxConnections + ") - rejected " +
+                        channel.getRemoteAddress());
+                channel.close();
+                return;
+            }
+
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            channel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+
+            SelectionKey key = channel.register(activeSelector, SelectionKey.OP_READ);
+            NioPeerConnection connection = new NioPeerConnection(channel, key, messageHandler);
+            key.attach(connection);
+
+            activeConnections.incrementAndGet();
+            connection.addCloseListener(activeConnections::decrementAndGet);
+
+            GameLogger.gameFlow("Player connected from: " + connection.getRemoteAddress());
+            connectionListener.accept(connection);
+
+        } catch (IOException e) {
+            GameLogger.error("Error accepting client connection: " + e.getMessage());
+            closeQuietly(channel);
+        }
+    }
+
+    private void closeAllConnections(Selector activeSelector) {
+        for (SelectionKey key : activeSelector.keys()) {
+            if (key.attachment() instanceof NioPeerConnection connection) {
+                connection.close();
+            }
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            GameLogger.warning("Error closing channel: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        Selector activeSelector = selector;
+        if (activeSelector != null) {
+            activeSelector.wakeup();
+        }
+
+        GameLogger.gameFlow("NIO game server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+}
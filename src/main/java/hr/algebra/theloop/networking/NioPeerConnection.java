@@ -0,0 +1,168 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.BiConsumer;
+
+public class NioPeerConnection extends AbstractPeerConnection {
+
+    private static final int INITIAL_READ_BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_PENDING_WRITE_BYTES = 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final SocketAddress remoteAddress;
+    private final Deque<ByteBuffer> pendingWrites = new ArrayDeque<>();
+    private int pendingWriteBytes;
+    private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_READ_BUFFER_SIZE);
+    private int incompleteFrameSize;
+
+    NioPeerConnection(SocketChannel channel, SelectionKey key,
+                      BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler) throws IOException {
+        super(messageHandler);
+        this.channel = channel;
+        this.key = key;
+        this.remoteAddress = channel.getRemoteAddress();
+    }
+
+    void onReadable() {
+        try {
+            if (channel.read(readBuffer) < 0) {
+                GameLogger.gameFlow("Peer closed connection: " + remoteAddress);
+                close();
+                return;
+            }
+
+            readBuffer.flip();
+            while (readFrame(readBuffer)) {
+                // keep draining complete frames
+            }
+            readBuffer.compact();
+            growReadBufferIfNeeded();
+
+        } catch (IOException e) {
+            if (isOpen()) {
+                GameLogger.warning("Peer connection lost: " + e.getMessage());
+            }
+            close();
+        }
+    }
+
+    private boolean readFrame(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return false;
+        }
+
+        int start = buffer.position();
+        byte frameType = buffer.get(start);
+        int frameSize;
+
+        if (frameType == NetworkingUtils.STATE_FRAME) {
+            if (buffer.remaining() < NetworkingUtils.STATE_FRAME_HEADER_SIZE) {
+                return false;
+            }
+            int payloadLength = buffer.getInt(start + 1);
+            NetworkingUtils.validateFrameLength(payloadLength);
+            frameSize = NetworkingUtils.STATE_FRAME_HEADER_SIZE + payloadLength;
+        } else if (frameType == NetworkingUtils.ACK_FRAME) {
+            frameSize = NetworkingUtils.ACK_FRAME_SIZE;
+        } else if (frameType == NetworkingUtils.RESYNC_FRAME) {
+            frameSize = NetworkingUtils.RESYNC_FRAME_SIZE;
+        } else {
+            throw new IOException("Unknown frame type: " + frameType);
+        }
+
+        if (buffer.remaining() < frameSize) {
+            incompleteFrameSize = frameSize;
+            return false;
+        }
+
+        buffer.get();
+        if (frameType == NetworkingUtils.STATE_FRAME) {
+            byte[] payload = new byte[buffer.getInt()];
+            buffer.get(payload);
+            onStateFrame(NetworkingUtils.deserialize(payload));
+        } else if (frameType == NetworkingUtils.ACK_FRAME) {
+            onAckFrame(buffer.getLong());
+        } else {
+            onResyncFrame();
+        }
+
+        incompleteFrameSize = 0;
+        return true;
+    }
+
+    private void growReadBufferIfNeeded() {
+        if (incompleteFrameSize > readBuffer.capacity()) {
+            ByteBuffer larger = ByteBuffer.allocate(incompleteFrameSize);
+            readBuffer.flip();
+            larger.put(readBuffer);
+            readBuffer = larger;
+        }
+    }
+
+    void onWritable() {
+        try {
+            synchronized (pendingWrites) {
+                flushPendingWrites();
+            }
+        } catch (IOException e) {
+            GameLogger.warning("Network send failed: " + e.getMessage());
+            close();
+        }
+    }
+
+    @Override
+    protected void writeFrame(byte[] frame) throws IOException {
+        synchronized (pendingWrites) {
+            if (pendingWriteBytes + frame.length > MAX_PENDING_WRITE_BYTES) {
+                throw new IOException("Peer " + remoteAddress + " is not reading - write backlog full");
+            }
+
+            pendingWrites.addLast(ByteBuffer.wrap(frame));
+            pendingWriteBytes += frame.length;
+            flushPendingWrites();
+        }
+    }
+
+    private void flushPendingWrites() throws IOException {
+        if (!key.isValid()) {
+            throw new IOException("Connection to " + remoteAddress + " is closed");
+        }
+
+        while (!pendingWrites.isEmpty()) {
+            ByteBuffer next = pendingWrites.peekFirst();
+            pendingWriteBytes -= channel.write(next);
+
+            if (next.hasRemaining()) {
+                key.interestOpsOr(SelectionKey.OP_WRITE);
+                key.selector().wakeup();
+                return;
+            }
+            pendingWrites.removeFirst();
+        }
+
+        if (key.isValid()) {
+            key.interestOpsAnd(~SelectionKey.OP_WRITE);
+        }
+    }
+
+    @Override
+    protected void closeTransport() throws IOException {
+        key.cancel();
+        channel.close();
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+        return remoteAddress;
+    }
+}
@@ -0,0 +1,74 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.*;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.function.BiConsumer;
+
+public class PeerConnection extends AbstractPeerConnection {
+
+    private final Socket socket;
+    private final DataInputStream input;
+    private final DataOutputStream output;
+
+    public PeerConnection(Socket socket, BiConsumer<AbstractPeerConnection, NetworkGameState> messageHandler)
+            throws IOException {
+        super(messageHandler);
+        this.socket = socket;
+
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+
+        this.output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+    }
+
+    public void startReading() {
+        Thread.ofVirtual()
+                .name("PeerConnection-" + socket.getRemoteSocketAddress())
+                .start(this::readLoop);
+    }
+
+    private void readLoop() {
+        try {
+            while (isOpen()) {
+                byte frameType = input.readByte();
+                switch (frameType) {
+                    case NetworkingUtils.STATE_FRAME -> onStateFrame(NetworkingUtils.readStatePayload(input));
+                    case NetworkingUtils.ACK_FRAME -> onAckFrame(input.readLong());
+                    case NetworkingUtils.RESYNC_FRAME -> onResyncFrame();
+                    default -> throw new IOException("Unknown frame type: " + frameType);
+                }
+            }
+        } catch (EOFException e) {
+            GameLogger.gameFlow("Peer closed connection: " + socket.getRemoteSocketAddress());
+        } catch (IOException e) {
+            if (isOpen()) {
+                GameLogger.warning("Peer connection lost: " + e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            GameLogger.error("Dropping peer " + socket.getRemoteSocketAddress() + " after error: " + e);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    protected void writeFrame(byte[] frame) throws IOException {
+        output.write(frame);
+        output.flush();
+    }
+
+    @Override
+    protected void closeTransport() throws IOException {
+        socket.close();
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+        return socket.getRemoteSocketAddress();
+    }
+}
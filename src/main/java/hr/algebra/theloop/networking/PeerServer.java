@@ -0,0 +1,10 @@
+package hr.algebra.theloop.networking;
+
+public interface PeerServer extends Runnable {
+
+    void stop();
+
+    boolean isRunning();
+
+    int getActiveConnections();
+}
@@ -0,0 +1,25 @@
+package hr.algebra.theloop.networking;
+
+public enum ServerMode {
+    VIRTUAL_THREADS("virtual-threads"),
+    NIO_SELECTOR("nio");
+
+    private final String configValue;
+
+    ServerMode(String configValue) {
+        this.configValue = configValue;
+    }
+
+    public String getConfigValue() {
+        return configValue;
+    }
+
+    public static ServerMode fromConfigValue(String value) {
+        for (ServerMode mode : values()) {
+            if (mode.configValue.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        return VIRTUAL_THREADS;
+    }
+}
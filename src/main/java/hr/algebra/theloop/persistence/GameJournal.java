@@ -0,0 +1,298 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.codec.GameStateCodec;
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.model.NetworkGameState;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+// Entries store state deltas, not action inputs: Dr. Foo's random generator is not saved
+public class GameJournal implements AutoCloseable {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 200;
+
+    private static final String LOG_FILE_NAME = "journal.log";
+    private static final String CHECKPOINT_PREFIX = "checkpoint_";
+    private static final String CHECKPOINT_EXTENSION = ".dat";
+
+    private static final int JOURNAL_MAGIC = 0x544C4A4E;
+    private static final int JOURNAL_VERSION = 1;
+    private static final int LOG_HEADER_SIZE = Integer.BYTES + Short.BYTES + Long.BYTES;
+    private static final int MAX_ENTRY_SIZE = 1024 * 1024;
+
+    private final Path directory;
+    private final int checkpointInterval;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "GameJournal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Game thread only
+    private NetworkGameState lastRecorded;
+    private long sequence = 0;
+    private int entriesSinceCheckpoint = 0;
+
+    // Writer thread only
+    private long epoch;
+    private FileChannel logChannel;
+
+    public GameJournal(Path directory) {
+        this(directory, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public GameJournal(Path directory, int checkpointInterval) {
+        this.directory = directory;
+        this.checkpointInterval = checkpointInterval;
+        this.epoch = latestCheckpointEpoch(directory);
+    }
+
+    public void record(JournalAction action, String actor, String detail, GameState gameState) {
+        if (lastRecorded == null || entriesSinceCheckpoint >= checkpointInterval) {
+            checkpoint(gameState);
+            return;
+        }
+
+        try {
+            NetworkGameState current = NetworkGameState.fromGameState(gameState, null, detail, actor);
+            byte[] entry = encodeEntry(++sequence, action, gameState.getDrFooMovesThisCycle(),
+                    NetworkGameState.delta(lastRecorded, current));
+            lastRecorded = current;
+            entriesSinceCheckpoint++;
+
+            writer.execute(() -> append(entry));
+        } catch (IOException e) {
+            GameLogger.error("Journal entry failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isStarted() {
+        return lastRecorded != null;
+    }
+
+    public void checkpoint(GameState gameState) {
+        try {
+            GameStateSnapshot snapshot = GameStateSnapshot.capture(gameState);
+            lastRecorded = NetworkGameState.fromGameState(gameState, null, null, null);
+            entriesSinceCheckpoint = 0;
+
+            writer.execute(() -> writeCheckpoint(snapshot));
+        } catch (IOException e) {
+            GameLogger.error("Journal checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    private void append(byte[] entry) {
+        try {
+            if (logChannel == null) {
+                return;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+        } catch (IOException e) {
+            GameLogger.error("Journal append failed: " + e.getMessage());
+        }
+    }
+
+    // A crash between any two steps leaves either the old or the new checkpoint paired with a log of the same epoch
+    private void writeCheckpoint(GameStateSnapshot snapshot) {
+        long newEpoch = epoch + 1;
+        try {
+            PersistenceService.INSTANCE.write(checkpointPath(directory, newEpoch), snapshot);
+
+            closeLog();
+            SaveFileFormat.writeAtomically(directory.resolve(LOG_FILE_NAME), output -> {
+                DataOutputStream data = new DataOutputStream(output);
+                data.writeInt(JOURNAL_MAGIC);
+                data.writeShort(JOURNAL_VERSION);
+                data.writeLong(newEpoch);
+                data.flush();
+            });
+            logChannel = FileChannel.open(directory.resolve(LOG_FILE_NAME), StandardOpenOption.APPEND);
+
+            deleteCheckpointsBefore(newEpoch);
+            epoch = newEpoch;
+        } catch (IOException e) {
+            GameLogger.error("Journal checkpoint failed: " + e.getMessage());
+        }
+    }
+
+    private static byte[] encodeEntry(long sequence, JournalAction action, int drFooMoves,
+                                      NetworkGameState delta) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(256);
+        DataOutputStream payload = new DataOutputStream(payloadBytes);
+        payload.writeLong(sequence);
+        payload.writeByte(action.ordinal());
+        payload.writeInt(drFooMoves);
+        payload.write(GameStateCodec.encode(delta));
+        payload.flush();
+
+        byte[] body = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(body.length + 2 * Integer.BYTES);
+        DataOutputStream entry = new DataOutputStream(entryBytes);
+        entry.writeInt(body.length);
+        entry.writeInt((int) crc.getValue());
+        entry.write(body);
+        entry.flush();
+        return entryBytes.toByteArray();
+    }
+
+    public static SaveHeader peekRecoveryPoint(Path directory) throws IOException {
+        long latest = latestCheckpointEpoch(directory);
+        return latest > 0 ? SaveHeader.peek(checkpointPath(directory, latest)) : null;
+    }
+
+    public static GameState recover(Path directory) throws IOException {
+        long latest = latestCheckpointEpoch(directory);
+        if (latest == 0) {
+            throw new NoSuchFileException(directory.resolve(CHECKPOINT_PREFIX + "*" + CHECKPOINT_EXTENSION).toString());
+        }
+
+        GameState gameState = PersistenceService.INSTANCE.read(checkpointPath(directory, latest));
+        Path logFile = directory.resolve(LOG_FILE_NAME);
+        if (!Files.exists(logFile)) {
+            return gameState;
+        }
+
+        NetworkGameState state = NetworkGameState.fromGameState(gameState, null, null, null);
+        int drFooMoves = gameState.getDrFooMovesThisCycle();
+        int replayed = 0;
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile)))) {
+            if (Files.size(logFile) < LOG_HEADER_SIZE || input.readInt() != JOURNAL_MAGIC
+                    || input.readUnsignedShort() > JOURNAL_VERSION || input.readLong() != latest) {
+                return gameState;
+            }
+
+            byte[] body;
+            while ((body = readEntry(input)) != null) {
+                DataInputStream entry = new DataInputStream(new ByteArrayInputStream(body));
+                entry.readLong();
+                entry.readUnsignedByte();
+                drFooMoves = entry.readInt();
+                state = state.applyDelta(GameStateCodec.decodeNetworkState(entry.readAllBytes()));
+                replayed++;
+            }
+        }
+
+        if (replayed > 0) {
+            state.applyToGameState(gameState);
+            gameState.setDrFooMovesThisCycle(drFooMoves);
+        }
+        GameLogger.success("Journal recovered: checkpoint " + latest + " + " + replayed + " actions");
+        return gameState;
+    }
+
+    private static byte[] readEntry(DataInputStream input) throws IOException {
+        try {
+            int length = input.readInt();
+            int expectedCrc = input.readInt();
+            if (length <= 0 || length > MAX_ENTRY_SIZE) {
+                return null;
+            }
+
+            byte[] body = input.readNBytes(length);
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            return body.length == length && (int) crc.getValue() == expectedCrc ? body : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static Path checkpointPath(Path directory, long epoch) {
+        return directory.resolve(CHECKPOINT_PREFIX + epoch + CHECKPOINT_EXTENSION);
+    }
+
+    private static long latestCheckpointEpoch(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        try (var paths = Files.list(directory)) {
+            return paths.mapToLong(path -> checkpointEpoch(path.getFileName().toString()))
+                    .max()
+                    .orElse(0);
+        } catch (IOException e) {
+            GameLogger.warning("Failed to list journal directory: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    private static long checkpointEpoch(String fileName) {
+        if (!fileName.startsWith(CHECKPOINT_PREFIX) || !fileName.endsWith(CHECKPOINT_EXTENSION)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(fileName.substring(CHECKPOINT_PREFIX.length(),
+                    fileName.length() - CHECKPOINT_EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void deleteCheckpointsBefore(long keepEpoch) throws IOException {
+        try (var paths = Files.list(directory)) {
+            for (Path path : paths.toList()) {
+                long fileEpoch = checkpointEpoch(path.getFileName().toString());
+                if (fileEpoch > 0 && fileEpoch < keepEpoch) {
+                    PersistenceService.INSTANCE.delete(path);
+                }
+            }
+        }
+    }
+
+    private void closeLog() throws IOException {
+        if (logChannel != null) {
+            logChannel.close();
+            logChannel = null;
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.submit(() -> {
+                if (logChannel != null) {
+                    logChannel.force(false);
+                }
+                return null;
+            }).get();
+        } catch (Exception e) {
+            GameLogger.warning("Journal flush failed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+        writer.execute(() -> {
+            try {
+                closeLog();
+            } catch (IOException e) {
+                GameLogger.warning("Journal close failed: " + e.getMessage());
+            }
+        });
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,19 +1,25 @@
 package hr.algebra.theloop.persistence;
 
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
 import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.utils.GameLogger;
-import javafx.stage.FileChooser;
+import javafx.scene.control.ChoiceDialog;
 import javafx.stage.Stage;
 
-import java.io.*;
+import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public class GamePersistenceManager {
 
@@ -21,182 +27,172 @@ public class GamePersistenceManager {
     private static final String MANUAL_SAVE_PREFIX = "manual_save_";
     private static final String AUTO_SAVE_PREFIX = "autosave_";
     private static final String FILE_EXTENSION = ".dat";
-    private static final AtomicBoolean FILE_ACCESS_IN_PROGRESS = new AtomicBoolean(false);
+    private static final String JOURNAL_DIRECTORY = "journal";
+    private static final String RECOVER_CHOICE_PREFIX = "Recover last session";
+    private static final SaveCompression MANUAL_SAVE_COMPRESSION = SaveCompression.fromConfigValue(
+            ConfigurationReader.getStringValueForKey(ConfigurationKey.MANUAL_SAVE_COMPRESSION));
+    private static final SaveRetentionPolicy RETENTION_POLICY = SaveRetentionPolicy.fromConfiguration(AUTO_SAVE_PREFIX);
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
 
     private GamePersistenceManager() {
     }
 
-    public static synchronized boolean saveGameManually(GameState gameState, String saveName) {
-
-        while (FILE_ACCESS_IN_PROGRESS.get()) {
-            try {
-                GamePersistenceManager.class.wait();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
-        }
+    public static CompletableFuture<Boolean> saveGameManually(GameState gameState, String saveName) {
+        return saveSnapshot(gameState, MANUAL_SAVE_PREFIX + saveName + FILE_EXTENSION);
+    }
 
-        FILE_ACCESS_IN_PROGRESS.set(true);
+    public static CompletableFuture<Boolean> saveGameWithTimestamp(GameState gameState) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+        return saveSnapshot(gameState, MANUAL_SAVE_PREFIX + LocalDateTime.now().format(formatter) + FILE_EXTENSION);
+    }
 
+    private static CompletableFuture<Boolean> saveSnapshot(GameState gameState, String fileName) {
+        GameStateSnapshot snapshot;
         try {
-            createSavesDirectory();
-            String fileName = MANUAL_SAVE_PREFIX + saveName + FILE_EXTENSION;
-            Path filePath = Paths.get(SAVES_DIRECTORY, fileName);
-
-            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath.toFile()))) {
-                oos.writeObject(gameState);
-            }
-
-            GameLogger.success("Manual save completed: " + fileName);
-            return true;
-
+            snapshot = GameStateSnapshot.capture(gameState);
         } catch (IOException e) {
             GameLogger.error("Manual save failed: " + e.getMessage());
-            return false;
-        } finally {
-            FILE_ACCESS_IN_PROGRESS.set(false);
-
-            synchronized(GamePersistenceManager.class) {
-                GamePersistenceManager.class.notifyAll();
-            }
+            return CompletableFuture.completedFuture(false);
         }
+
+        return PersistenceService.INSTANCE.saveAsync(Paths.get(SAVES_DIRECTORY, fileName), snapshot, MANUAL_SAVE_COMPRESSION)
+                .handle((path, error) -> {
+                    if (error != null) {
+                        GameLogger.error("Manual save failed: " + rootMessage(error));
+                        return false;
+                    }
+                    GameLogger.success("Manual save completed: " + fileName);
+                    return true;
+                });
     }
 
-    public static synchronized boolean saveGameWithTimestamp(GameState gameState) {
+    public static CompletableFuture<GameState> loadGameState(String fileName) {
+        return PersistenceService.INSTANCE.loadAsync(Paths.get(SAVES_DIRECTORY, fileName))
+                .handle((gameState, error) -> {
+                    if (error != null) {
+                        GameLogger.error("Failed to load game: " + rootMessage(error));
+                        return null;
+                    }
+                    GameLogger.success("Game loaded successfully: " + fileName);
+                    return gameState;
+                });
+    }
 
-        while (FILE_ACCESS_IN_PROGRESS.get()) {
-            try {
-                GamePersistenceManager.class.wait();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return false;
-            }
-        }
+    public static Path getJournalDirectory() {
+        return Paths.get(SAVES_DIRECTORY, JOURNAL_DIRECTORY);
+    }
 
-        FILE_ACCESS_IN_PROGRESS.set(true);
-        try {
-            createSavesDirectory();
+    public static CompletableFuture<GameState> recoverJournaledGame() {
+        return PersistenceService.INSTANCE.recoverJournalAsync(getJournalDirectory())
+                .handle((gameState, error) -> {
+                    if (error != null) {
+                        GameLogger.error("Failed to recover journaled game: " + rootMessage(error));
+                        return null;
+                    }
+                    return gameState;
+                });
+    }
 
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
-            String fileName = MANUAL_SAVE_PREFIX + LocalDateTime.now().format(formatter) + FILE_EXTENSION;
-            Path filePath = Paths.get(SAVES_DIRECTORY, fileName);
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof NoSuchFileException ? "file not found " + cause.getMessage() : cause.getMessage();
+    }
 
-            try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(filePath.toFile()))) {
-                oos.writeObject(gameState);
-            }
+    public static CompletableFuture<GameState> loadGameFromDialog(Stage parentStage) {
+        List<SaveCatalogEntry> availableSaves = getSaveCatalogEntries();
+        String recoverChoice = formatRecoveryChoice();
 
-            GameLogger.success("Manual save completed: " + fileName);
-            return true;
+        if (availableSaves.isEmpty() && recoverChoice == null) {
+            GameLogger.warning("No save files found");
+            return CompletableFuture.completedFuture(null);
+        }
 
-        } catch (IOException e) {
-            GameLogger.error("Manual save failed: " + e.getMessage());
-            return false;
-        } finally {
-            FILE_ACCESS_IN_PROGRESS.set(false);
-            synchronized(GamePersistenceManager.class) {
-                GamePersistenceManager.class.notifyAll();
-            }
+        Map<String, String> choices = new LinkedHashMap<>();
+        if (recoverChoice != null) {
+            choices.put(recoverChoice, null);
+        }
+        for (SaveCatalogEntry entry : availableSaves) {
+            choices.put(formatSaveFileInfo(entry), entry.getFileName());
         }
-    }
 
-    public static synchronized GameState loadGameState(String fileName) {
+        List<String> labels = new ArrayList<>(choices.keySet());
+        ChoiceDialog<String> dialog = new ChoiceDialog<>(labels.get(0), labels);
+        dialog.initOwner(parentStage);
+        dialog.setTitle("Load Game");
+        dialog.setHeaderText(availableSaves.size() + " saved games");
+        dialog.setContentText("Select save:");
+        dialog.setResizable(true);
+        dialog.getDialogPane().setPrefWidth(640);
 
-        while (FILE_ACCESS_IN_PROGRESS.get()) {
-            try {
-                GamePersistenceManager.class.wait();
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return null;
-            }
+        Optional<String> result = dialog.showAndWait();
+
+        if (result.isPresent()) {
+            String fileName = choices.get(result.get());
+            return fileName != null ? loadGameState(fileName) : recoverJournaledGame();
         }
 
-        FILE_ACCESS_IN_PROGRESS.set(true);
+        return CompletableFuture.completedFuture(null);
+    }
 
+    private static String formatRecoveryChoice() {
         try {
-            Path filePath = Paths.get(SAVES_DIRECTORY, fileName);
-
-            if (!Files.exists(filePath)) {
-                GameLogger.error("Save file not found: " + fileName);
+            SaveHeader header = GameJournal.peekRecoveryPoint(getJournalDirectory());
+            if (header == null) {
                 return null;
             }
-
-            try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(filePath.toFile()))) {
-                GameState gameState = (GameState) ois.readObject();
-                GameLogger.success("Game loaded successfully: " + fileName);
-                return gameState;
-            }
-
-        } catch (IOException | ClassNotFoundException e) {
-            GameLogger.error("Failed to load game: " + e.getMessage());
+            return String.format("%s (checkpoint at Turn %d, %s, plus journaled actions)",
+                    RECOVER_CHOICE_PREFIX, header.getTurnNumber(), header.getSavedAt().format(DISPLAY_FORMATTER));
+        } catch (IOException e) {
+            GameLogger.warning("Journal checkpoint unreadable: " + e.getMessage());
             return null;
-        } finally {
-            FILE_ACCESS_IN_PROGRESS.set(false);
-
-            synchronized(GamePersistenceManager.class) {
-                GamePersistenceManager.class.notifyAll();
-            }
         }
     }
 
-    public static GameState loadGameFromDialog(Stage parentStage) {
-        List<String> availableSaves = getAvailableSaveFiles();
-
-        if (availableSaves.isEmpty()) {
-            GameLogger.warning("No save files found");
-            return null;
-        }
-
-        FileChooser fileChooser = new FileChooser();
-        fileChooser.setTitle("Load Game");
-        fileChooser.setInitialDirectory(Paths.get(SAVES_DIRECTORY).toFile());
-
-        FileChooser.ExtensionFilter extFilter = new FileChooser.ExtensionFilter("Save files (*.dat)", "*.dat");
-        fileChooser.getExtensionFilters().add(extFilter);
+    public static List<String> getAvailableSaveFiles() {
+        return getSaveCatalogEntries().stream()
+                .map(SaveCatalogEntry::getFileName)
+                .toList();
+    }
 
-        File selectedFile = fileChooser.showOpenDialog(parentStage);
+    public static List<SaveCatalogEntry> getSaveCatalogEntries() {
+        Path savesDir = Paths.get(SAVES_DIRECTORY);
 
-        if (selectedFile != null) {
-            return loadGameState(selectedFile.getName());
+        if (!Files.exists(savesDir)) {
+            return new ArrayList<>();
         }
 
-        return null;
+        List<SaveCatalogEntry> entries = SaveCatalog.forDirectory(savesDir).getEntries();
+        entries.sort(GamePersistenceManager::compareSaves);
+        return entries;
     }
 
-    public static List<String> getAvailableSaveFiles() {
-        try {
-            Path savesDir = Paths.get(SAVES_DIRECTORY);
-
-            if (!Files.exists(savesDir)) {
-                return new ArrayList<>();
-            }
+    private static int compareSaves(SaveCatalogEntry a, SaveCatalogEntry b) {
+        boolean aIsManual = a.getFileName().startsWith(MANUAL_SAVE_PREFIX);
+        boolean bIsManual = b.getFileName().startsWith(MANUAL_SAVE_PREFIX);
 
-            try (var paths = Files.list(savesDir)) {
-                return paths
-                        .filter(path -> path.toString().endsWith(FILE_EXTENSION))
-                        .map(path -> path.getFileName().toString())
-                        .sorted((a, b) -> {
-                            boolean aIsManual = a.startsWith(MANUAL_SAVE_PREFIX);
-                            boolean bIsManual = b.startsWith(MANUAL_SAVE_PREFIX);
+        if (aIsManual && !bIsManual) return -1;
+        if (!aIsManual && bIsManual) return 1;
 
-                            if (aIsManual && !bIsManual) return -1;
-                            if (!aIsManual && bIsManual) return 1;
+        if (a.hasHeader() && b.hasHeader()) {
+            int byTime = Long.compare(b.getHeader().getSavedAtMillis(), a.getHeader().getSavedAtMillis());
+            if (byTime != 0) return byTime;
+        }
 
-                            return b.compareTo(a);
-                        })
-                        .toList();
-            }
+        return b.getFileName().compareTo(a.getFileName());
+    }
 
-        } catch (IOException e) {
-            GameLogger.error("Failed to list save files: " + e.getMessage());
-            return new ArrayList<>();
-        }
+    // Blocking; callers run it on the save executor
+    public static int applyRetention() {
+        return RETENTION_POLICY.apply(Paths.get(SAVES_DIRECTORY));
     }
 
     public static boolean deleteSaveFile(String fileName) {
         try {
             Path filePath = Paths.get(SAVES_DIRECTORY, fileName);
-            boolean deleted = Files.deleteIfExists(filePath);
+            boolean deleted = PersistenceService.INSTANCE.delete(filePath);
 
             if (deleted) {
                 GameLogger.success("Save file deleted: " + fileName);
@@ -212,29 +208,38 @@ public class GamePersistenceManager {
         }
     }
 
-    private static void createSavesDirectory() throws IOException {
-        Path savesDir = Paths.get(SAVES_DIRECTORY);
-        if (!Files.exists(savesDir)) {
-            Files.createDirectories(savesDir);
+    public static String formatSaveFileInfo(String fileName) {
+        SaveCatalogEntry entry = SaveCatalog.forDirectory(Paths.get(SAVES_DIRECTORY)).getEntry(fileName);
+        if (entry == null || !Files.exists(Paths.get(SAVES_DIRECTORY, fileName))) {
+            return fileName + " (file not found)";
         }
+        return formatSaveFileInfo(entry);
     }
 
-    public static String formatSaveFileInfo(String fileName) {
-        try {
-            Path filePath = Paths.get(SAVES_DIRECTORY, fileName);
-            if (!Files.exists(filePath)) {
-                return fileName + " (file not found)";
-            }
+    public static String formatSaveFileInfo(SaveCatalogEntry entry) {
+        long sizeBytes = entry.getSizeBytes();
+        String sizeStr = sizeBytes > 1024 ? (sizeBytes / 1024) + " KB" : sizeBytes + " B";
 
-            long sizeBytes = Files.size(filePath);
-            String sizeStr = sizeBytes > 1024 ? (sizeBytes / 1024) + " KB" : sizeBytes + " B";
+        String type = entry.getFileName().startsWith(AUTO_SAVE_PREFIX) ? "Auto" : "Manual";
 
-            String type = fileName.startsWith(AUTO_SAVE_PREFIX) ? "Auto" : "Manual";
-
-            return fileName + " (" + type + ", " + sizeStr + ")";
-
-        } catch (IOException e) {
-            return fileName + " (error reading info)";
+        if (!entry.hasHeader()) {
+            return entry.getFileName() + " (" + type + ", " + sizeStr + ")";
         }
+
+        SaveHeader header = entry.getHeader();
+        String result = header.getGameResult() == null || !header.getGameResult().isGameOver()
+                ? "In progress"
+                : header.getGameResult().name();
+
+        return String.format("%s (%s, %s, Turn %d, Cycle %d, Missions %d, Vortexes %d, %s, %s)",
+                entry.getFileName(),
+                type,
+                header.getSavedAt().format(DISPLAY_FORMATTER),
+                header.getTurnNumber(),
+                header.getCycle(),
+                header.getMissionsCompleted(),
+                header.getVortexCount(),
+                result,
+                sizeStr);
     }
-}
\ No newline at end of file
+}
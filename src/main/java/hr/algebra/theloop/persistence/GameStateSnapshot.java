@@ -0,0 +1,36 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.metrics.GameMetrics;
+import hr.algebra.theloop.model.GameState;
+import lombok.Data;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Data
+public class GameStateSnapshot {
+
+    private final byte[] data;
+    private final SaveHeader header;
+    private final LocalDateTime capturedAt;
+
+    public static GameStateSnapshot capture(GameState gameState) throws IOException {
+        long start = System.nanoTime();
+        LocalDateTime capturedAt = LocalDateTime.now();
+        long capturedAtMillis = capturedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        SaveHeader header = SaveHeader.of(gameState, capturedAtMillis);
+
+        GameStateSnapshot snapshot = new GameStateSnapshot(
+                SaveFileFormat.encodeBody(gameState),
+                header,
+                capturedAt
+        );
+        GameMetrics.SNAPSHOT_CAPTURE.recordSince(start);
+        return snapshot;
+    }
+
+    public int getTurnNumber() {
+        return header.getTurnNumber();
+    }
+}
@@ -0,0 +1,8 @@
+package hr.algebra.theloop.persistence;
+
+public enum JournalAction {
+    PLAY_CARD,
+    MOVE_PLAYER,
+    END_TURN,
+    DR_FOO_TURN
+}
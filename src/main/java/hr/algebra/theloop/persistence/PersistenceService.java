@@ -0,0 +1,182 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.jfr.LoadEvent;
+import hr.algebra.theloop.jfr.SaveEvent;
+import hr.algebra.theloop.metrics.GameMetrics;
+import hr.algebra.theloop.model.GameState;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public enum PersistenceService {
+    INSTANCE;
+
+    private final ExecutorService ioExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("PersistenceIO-", 0).factory());
+
+    private static final int LOCK_STRIPES = 32;
+
+    private final ReadWriteLock[] fileLocks = createLocks();
+
+    public CompletableFuture<Path> saveAsync(Path target, GameStateSnapshot snapshot) {
+        return saveAsync(target, snapshot, SaveCompression.NONE);
+    }
+
+    public CompletableFuture<Path> saveAsync(Path target, GameStateSnapshot snapshot, SaveCompression compression) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(target, snapshot, compression);
+                return target;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    public CompletableFuture<GameState> loadAsync(Path source) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return read(source);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    public CompletableFuture<GameState> recoverJournalAsync(Path journalDirectory) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return GameJournal.recover(journalDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    public CompletableFuture<Boolean> deleteAsync(Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return delete(target);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ioExecutor);
+    }
+
+    public void write(Path target, GameStateSnapshot snapshot) throws IOException {
+        write(target, snapshot, SaveCompression.NONE);
+    }
+
+    public void write(Path target, GameStateSnapshot snapshot, SaveCompression compression) throws IOException {
+        SaveHeader header = snapshot.getHeader().withCompression(compression);
+
+        long start = System.nanoTime();
+        SaveEvent event = new SaveEvent();
+        event.begin();
+        boolean saved = false;
+
+        Lock lock = lockFor(target).writeLock();
+        lock.lock();
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            SaveFileFormat.writeAtomically(target,
+                    output -> SaveFileFormat.writeSave(output, header, snapshot.getData()));
+
+            long sizeBytes = Files.size(target);
+            catalogFor(target).record(target.getFileName().toString(), sizeBytes, header);
+            GameMetrics.SAVE_BYTES.add(sizeBytes);
+            saved = true;
+        } catch (IOException e) {
+            GameMetrics.SAVE_FAILURES.increment();
+            throw e;
+        } finally {
+            lock.unlock();
+            GameMetrics.SAVE.recordSince(start);
+            event.complete(target, compression.name(), saved);
+        }
+    }
+
+    public GameState read(Path source) throws IOException {
+        long start = System.nanoTime();
+        LoadEvent event = new LoadEvent();
+        event.begin();
+        boolean loaded = false;
+
+        Lock lock = lockFor(source).readLock();
+        lock.lock();
+        try {
+            if (!Files.exists(source)) {
+                throw new NoSuchFileException(source.toString());
+            }
+            GameState gameState = SaveFileFormat.read(source.toFile());
+            loaded = true;
+            return gameState;
+        } catch (IOException e) {
+            GameMetrics.LOAD_FAILURES.increment();
+            throw e;
+        } finally {
+            lock.unlock();
+            GameMetrics.LOAD.recordSince(start);
+            event.complete(source, loaded);
+        }
+    }
+
+    public boolean delete(Path target) throws IOException {
+        Lock lock = lockFor(target).writeLock();
+        lock.lock();
+        try {
+            boolean deleted = Files.deleteIfExists(target);
+            catalogFor(target).remove(target.getFileName().toString());
+            return deleted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Same directory only
+    public int deleteAll(Path directory, Collection<String> fileNames) throws IOException {
+        List<String> deleted = new ArrayList<>();
+        for (String fileName : fileNames) {
+            Path target = directory.resolve(fileName);
+            Lock lock = lockFor(target).writeLock();
+            lock.lock();
+            try {
+                if (Files.deleteIfExists(target)) {
+                    deleted.add(fileName);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        SaveCatalog.forDirectory(directory).removeAll(fileNames);
+        return deleted.size();
+    }
+
+    private SaveCatalog catalogFor(Path file) {
+        return SaveCatalog.forDirectory(file.toAbsolutePath().getParent());
+    }
+
+    private ReadWriteLock lockFor(Path path) {
+        int hash = path.toAbsolutePath().normalize().hashCode();
+        return fileLocks[Math.floorMod(hash, LOCK_STRIPES)];
+    }
+
+    private static ReadWriteLock[] createLocks() {
+        ReadWriteLock[] locks = new ReadWriteLock[LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantReadWriteLock();
+        }
+        return locks;
+    }
+}
@@ -0,0 +1,176 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SaveCatalog {
+
+    public static final String CATALOG_FILE_NAME = "catalog.idx";
+
+    private static final int CATALOG_MAGIC = 0x544C4358;
+    private static final int CATALOG_VERSION = 1;
+    private static final int MAX_ENTRIES = 100_000;
+    private static final String SAVE_FILE_EXTENSION = ".dat";
+
+    private static final ConcurrentHashMap<Path, SaveCatalog> CATALOGS = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Map<String, SaveCatalogEntry> entries = new HashMap<>();
+    private boolean loaded = false;
+
+    private SaveCatalog(Path directory) {
+        this.directory = directory;
+    }
+
+    public static SaveCatalog forDirectory(Path directory) {
+        return CATALOGS.computeIfAbsent(directory.toAbsolutePath().normalize(), SaveCatalog::new);
+    }
+
+    public synchronized void record(String fileName, long sizeBytes, SaveHeader header) {
+        ensureLoaded();
+        entries.put(fileName, new SaveCatalogEntry(fileName, sizeBytes, header));
+        persist();
+    }
+
+    public synchronized void remove(String fileName) {
+        removeAll(List.of(fileName));
+    }
+
+    public synchronized void removeAll(Collection<String> fileNames) {
+        ensureLoaded();
+        if (entries.keySet().removeAll(fileNames)) {
+            persist();
+        }
+    }
+
+    public synchronized List<SaveCatalogEntry> getEntries() {
+        ensureLoaded();
+
+        Map<String, Long> onDisk = listSaveFiles();
+        boolean changed = entries.keySet().retainAll(onDisk.keySet());
+
+        for (Map.Entry<String, Long> file : onDisk.entrySet()) {
+            SaveCatalogEntry known = entries.get(file.getKey());
+            if (known != null && known.getSizeBytes() == file.getValue()) {
+                continue;
+            }
+
+            entries.put(file.getKey(), new SaveCatalogEntry(file.getKey(), file.getValue(), peekHeader(file.getKey())));
+            changed = true;
+        }
+
+        if (changed) {
+            persist();
+        }
+        return new ArrayList<>(entries.values());
+    }
+
+    public synchronized SaveCatalogEntry getEntry(String fileName) {
+        ensureLoaded();
+        return entries.get(fileName);
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+
+        Path catalogFile = directory.resolve(CATALOG_FILE_NAME);
+        if (!Files.exists(catalogFile)) {
+            return;
+        }
+
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(catalogFile)))) {
+            readEntries(input);
+        } catch (IOException e) {
+            entries.clear();
+            GameLogger.warning("Save catalog unreadable, rebuilding: " + e.getMessage());
+        }
+    }
+
+    private void readEntries(DataInputStream input) throws IOException {
+        if (input.readInt() != CATALOG_MAGIC) {
+            throw new IOException("Not a save catalog");
+        }
+        int version = input.readUnsignedShort();
+        if (version > CATALOG_VERSION) {
+            throw new IOException("Unsupported catalog version " + version);
+        }
+
+        int count = input.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IOException("Invalid catalog entry count " + count);
+        }
+
+        for (int i = 0; i < count; i++) {
+            String fileName = input.readUTF();
+            long sizeBytes = input.readLong();
+            SaveHeader header = input.readBoolean() ? SaveHeader.readFrom(input) : null;
+            entries.put(fileName, new SaveCatalogEntry(fileName, sizeBytes, header));
+        }
+    }
+
+    private void persist() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + entries.size() * 96);
+            DataOutputStream output = new DataOutputStream(bytes);
+
+            output.writeInt(CATALOG_MAGIC);
+            output.writeShort(CATALOG_VERSION);
+            output.writeInt(entries.size());
+            for (SaveCatalogEntry entry : entries.values()) {
+                output.writeUTF(entry.getFileName());
+                output.writeLong(entry.getSizeBytes());
+                output.writeBoolean(entry.hasHeader());
+                if (entry.hasHeader()) {
+                    entry.getHeader().writeTo(output);
+                }
+            }
+            output.flush();
+
+            Files.createDirectories(directory);
+            SaveFileFormat.writeAtomically(directory.resolve(CATALOG_FILE_NAME), bytes.toByteArray());
+        } catch (IOException e) {
+            GameLogger.warning("Failed to update save catalog: " + e.getMessage());
+        }
+    }
+
+    private Map<String, Long> listSaveFiles() {
+        Map<String, Long> files = new HashMap<>();
+        if (!Files.isDirectory(directory)) {
+            return files;
+        }
+
+        try (var paths = Files.list(directory)) {
+            paths.filter(path -> path.getFileName().toString().endsWith(SAVE_FILE_EXTENSION))
+                    .forEach(path -> {
+                        try {
+                            files.put(path.getFileName().toString(), Files.size(path));
+                        } catch (IOException e) {
+                            // Deleted between listing and stat
+                        }
+                    });
+        } catch (IOException e) {
+            GameLogger.error("Failed to list save files: " + e.getMessage());
+        }
+        return files;
+    }
+
+    private SaveHeader peekHeader(String fileName) {
+        try {
+            return SaveHeader.peek(directory.resolve(fileName));
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            GameLogger.warning("Unreadable save header in " + fileName + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package hr.algebra.theloop.persistence;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class SaveCatalogEntry {
+
+    private final String fileName;
+    private final long sizeBytes;
+    private final SaveHeader header;
+
+    public boolean hasHeader() {
+        return header != null;
+    }
+}
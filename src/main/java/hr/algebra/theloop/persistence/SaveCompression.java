@@ -0,0 +1,78 @@
+package hr.algebra.theloop.persistence;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+public enum SaveCompression {
+    NONE("none"),
+    DEFLATE("deflate"),
+    GZIP("gzip");
+
+    private static final int STREAM_BUFFER_SIZE = 8192;
+
+    private final String configValue;
+
+    SaveCompression(String configValue) {
+        this.configValue = configValue;
+    }
+
+    public String getConfigValue() {
+        return configValue;
+    }
+
+    // The ordinal is stored in the save header; never reorder
+    public int getId() {
+        return ordinal();
+    }
+
+    public static SaveCompression fromId(int id) throws IOException {
+        SaveCompression[] values = values();
+        if (id < 0 || id >= values.length) {
+            throw new IOException("Unknown save compression " + id);
+        }
+        return values[id];
+    }
+
+    public static SaveCompression fromConfigValue(String value) {
+        for (SaveCompression compression : values()) {
+            if (compression.configValue.equalsIgnoreCase(value)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+
+    public OutputStream wrapOutput(OutputStream output) throws IOException {
+        OutputStream unclosable = new FilterOutputStream(output) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+
+        return switch (this) {
+            case NONE -> unclosable;
+            case DEFLATE -> new DeflaterOutputStream(unclosable);
+            case GZIP -> new GZIPOutputStream(unclosable, STREAM_BUFFER_SIZE);
+        };
+    }
+
+    public InputStream wrapInput(InputStream input) throws IOException {
+        return switch (this) {
+            case NONE -> input;
+            case DEFLATE -> new InflaterInputStream(input);
+            case GZIP -> new GZIPInputStream(input, STREAM_BUFFER_SIZE);
+        };
+    }
+}
@@ -0,0 +1,86 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.codec.GameStateCodec;
+import hr.algebra.theloop.model.GameState;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+public class SaveFileFormat {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private SaveFileFormat() {
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream output) throws IOException;
+    }
+
+    public static void write(GameState gameState, File file, SaveCompression compression) throws IOException {
+        SaveHeader header = SaveHeader.of(gameState, System.currentTimeMillis());
+        try (OutputStream output = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE)) {
+            writeSave(output, header.withCompression(compression), encodeBody(gameState));
+        }
+    }
+
+    public static byte[] encodeBody(GameState gameState) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        GameStateCodec.writeGameState(gameState, bytes);
+        return bytes.toByteArray();
+    }
+
+    public static void writeSave(OutputStream output, SaveHeader header, byte[] body) throws IOException {
+        header.writeTo(new DataOutputStream(output));
+        try (OutputStream compressed = header.getCompression().wrapOutput(output)) {
+            compressed.write(body);
+        }
+    }
+
+    public static void writeAtomically(Path target, byte[] data) throws IOException {
+        writeAtomically(target, output -> output.write(data));
+    }
+
+    public static void writeAtomically(Path target, ContentWriter writer) throws IOException {
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE);
+                 OutputStream output = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE)) {
+                writer.writeTo(output);
+                output.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Pre-codec saves (plain Java serialization) no longer load
+    public static GameState read(File file) throws IOException {
+        try (BufferedInputStream input = new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE)) {
+            DataInputStream data = new DataInputStream(input);
+            input.mark(Integer.BYTES);
+            int magic = data.readInt();
+            input.reset();
+
+            if (magic == SaveHeader.MAGIC) {
+                SaveHeader header = SaveHeader.readFrom(data);
+                return GameStateCodec.readGameState(header.getCompression().wrapInput(input));
+            }
+            if (magic == GameStateCodec.MAGIC) {
+                return GameStateCodec.readGameState(input);
+            }
+            throw new IOException("Unrecognized save file format - saves from before the binary format are not supported");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.model.GameResult;
+import hr.algebra.theloop.model.GameState;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.With;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+@Data
+@AllArgsConstructor
+public class SaveHeader {
+
+    public static final int MAGIC = 0x544C5356;
+    public static final int HEADER_VERSION = 2;
+
+    public static final int SIZE = 32;
+
+    private final int headerVersion;
+    private final long savedAtMillis;
+    private final int turnNumber;
+    private final int cycle;
+    private final int missionsCompleted;
+    private final int vortexCount;
+    private final GameResult gameResult;
+    // Version 1 headers always had an uncompressed body
+    @With private final SaveCompression compression;
+
+    public static SaveHeader of(GameState gameState, long savedAtMillis) {
+        return new SaveHeader(
+                HEADER_VERSION,
+                savedAtMillis,
+                gameState.getTurnNumber(),
+                gameState.getCurrentCycle(),
+                gameState.getTotalMissionsCompleted(),
+                gameState.getVortexCount(),
+                gameState.getGameResult(),
+                SaveCompression.NONE
+        );
+    }
+
+    public LocalDateTime getSavedAt() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(savedAtMillis), ZoneId.systemDefault());
+    }
+
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeShort(headerVersion);
+        output.writeLong(savedAtMillis);
+        output.writeInt(turnNumber);
+        output.writeInt(cycle);
+        output.writeInt(missionsCompleted);
+        output.writeInt(vortexCount);
+        output.writeByte(gameResult == null ? 0 : gameResult.ordinal() + 1);
+        output.writeByte(compression.getId());
+    }
+
+    public static SaveHeader readFrom(DataInput input) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Missing save header");
+        }
+
+        int headerVersion = input.readUnsignedShort();
+        if (headerVersion > HEADER_VERSION) {
+            throw new IOException("Unsupported save header version " + headerVersion);
+        }
+
+        long savedAtMillis = input.readLong();
+        int turnNumber = input.readInt();
+        int cycle = input.readInt();
+        int missionsCompleted = input.readInt();
+        int vortexCount = input.readInt();
+        int result = input.readUnsignedByte();
+        SaveCompression compression = SaveCompression.fromId(input.readUnsignedByte());
+
+        GameResult[] results = GameResult.values();
+        GameResult gameResult = result > 0 && result <= results.length ? results[result - 1] : null;
+
+        return new SaveHeader(headerVersion, savedAtMillis, turnNumber, cycle,
+                missionsCompleted, vortexCount, gameResult, compression);
+    }
+
+    // Null for saves written before headers existed
+    public static SaveHeader peek(Path file) throws IOException {
+        byte[] bytes = new byte[SIZE];
+        int read;
+        try (InputStream input = Files.newInputStream(file)) {
+            read = input.readNBytes(bytes, 0, SIZE);
+        }
+
+        if (read < SIZE) {
+            return null;
+        }
+
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(bytes));
+        data.mark(Integer.BYTES);
+        if (data.readInt() != MAGIC) {
+            return null;
+        }
+        data.reset();
+        return readFrom(data);
+    }
+}
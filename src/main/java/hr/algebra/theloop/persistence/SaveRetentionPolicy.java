@@ -0,0 +1,121 @@
+package hr.algebra.theloop.persistence;
+
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.utils.GameLogger;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+// Manual saves are never touched; only autosaves are thinned and counted against the byte cap
+@Data
+@AllArgsConstructor
+public class SaveRetentionPolicy {
+
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    private final String autoSavePrefix;
+    private final int keepRecent;
+    private final int keepDailyDays;
+    private final long maxTotalBytes;
+
+    public static SaveRetentionPolicy fromConfiguration(String autoSavePrefix) {
+        return new SaveRetentionPolicy(
+                autoSavePrefix,
+                ConfigurationReader.getIntegerValueForKey(ConfigurationKey.RETENTION_KEEP_RECENT),
+                ConfigurationReader.getIntegerValueForKey(ConfigurationKey.RETENTION_KEEP_DAILY_DAYS),
+                ConfigurationReader.getIntegerValueForKey(ConfigurationKey.RETENTION_MAX_MEGABYTES) * BYTES_PER_MEGABYTE
+        );
+    }
+
+    // Newest keepRecent autosaves stay; older ones are thinned to the newest per day for keepDailyDays;
+    // then the oldest survivors go until the total fits, always leaving the newest autosave
+    public List<String> selectForDeletion(List<SaveCatalogEntry> entries, Map<String, Long> savedAtMillis,
+                                          LocalDate today) {
+        List<SaveCatalogEntry> autoSaves = new ArrayList<>(entries.stream()
+                .filter(entry -> entry.getFileName().startsWith(autoSavePrefix))
+                .toList());
+        autoSaves.sort(Comparator.comparingLong(
+                (SaveCatalogEntry entry) -> savedAtMillis.getOrDefault(entry.getFileName(), 0L)).reversed());
+
+        List<String> doomed = new ArrayList<>();
+        List<SaveCatalogEntry> kept = new ArrayList<>();
+        Set<LocalDate> daysKept = new HashSet<>();
+        LocalDate oldestDailyDay = today.minusDays(keepDailyDays);
+
+        for (int i = 0; i < autoSaves.size(); i++) {
+            SaveCatalogEntry entry = autoSaves.get(i);
+            if (i < keepRecent) {
+                kept.add(entry);
+                continue;
+            }
+
+            LocalDate day = toDate(savedAtMillis.getOrDefault(entry.getFileName(), 0L));
+            if (!day.isBefore(oldestDailyDay) && daysKept.add(day)) {
+                kept.add(entry);
+            } else {
+                doomed.add(entry.getFileName());
+            }
+        }
+
+        long totalBytes = kept.stream().mapToLong(SaveCatalogEntry::getSizeBytes).sum();
+        for (int i = kept.size() - 1; i > 0 && totalBytes > maxTotalBytes; i--) {
+            totalBytes -= kept.get(i).getSizeBytes();
+            doomed.add(kept.get(i).getFileName());
+        }
+
+        return doomed;
+    }
+
+    public int apply(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        List<SaveCatalogEntry> entries = SaveCatalog.forDirectory(directory).getEntries();
+        Map<String, Long> savedAtMillis = new HashMap<>();
+        for (SaveCatalogEntry entry : entries) {
+            savedAtMillis.put(entry.getFileName(), savedAtMillis(directory, entry));
+        }
+
+        List<String> doomed = selectForDeletion(entries, savedAtMillis, LocalDate.now());
+        if (doomed.isEmpty()) {
+            return 0;
+        }
+
+        int deleted;
+        try {
+            deleted = PersistenceService.INSTANCE.deleteAll(directory, doomed);
+        } catch (IOException e) {
+            GameLogger.warning("Save retention failed: " + e.getMessage());
+            return 0;
+        }
+
+        if (deleted > 0) {
+            GameLogger.gameFlow("Save retention removed " + deleted + " old autosaves");
+        }
+        return deleted;
+    }
+
+    private static long savedAtMillis(Path directory, SaveCatalogEntry entry) {
+        if (entry.hasHeader()) {
+            return entry.getHeader().getSavedAtMillis();
+        }
+        try {
+            return Files.getLastModifiedTime(directory.resolve(entry.getFileName())).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static LocalDate toDate(long epochMillis) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
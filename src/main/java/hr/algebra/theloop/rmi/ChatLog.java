@@ -0,0 +1,213 @@
+package hr.algebra.theloop.rmi;
+
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Index entry (sequence - 1) holds the byte offset of that record in the log
+public class ChatLog implements Closeable {
+
+    private static final String INDEX_EXTENSION = ".idx";
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES;
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+
+    private final FileChannel log;
+    private final FileChannel index;
+    private long latestSequence;
+    private boolean broken;
+
+    private ChatLog(FileChannel log, FileChannel index) {
+        this.log = log;
+        this.index = index;
+    }
+
+    public static ChatLog open(Path logFile) throws IOException {
+        Path parent = logFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path indexFile = logFile.resolveSibling(logFile.getFileName() + INDEX_EXTENSION);
+        ChatLog chatLog = new ChatLog(
+                FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE),
+                FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE));
+
+        try {
+            chatLog.recover();
+        } catch (IOException e) {
+            chatLog.close();
+            throw e;
+        }
+        return chatLog;
+    }
+
+    private void recover() throws IOException {
+        long indexed = index.size() / INDEX_ENTRY_SIZE;
+        long scanFrom = 0;
+        long sequence = 0;
+
+        if (indexed > 0) {
+            long lastOffset = readIndexEntry(indexed);
+            ChatMessage last = readRecordAt(lastOffset);
+            if (last != null && last.getSequence() == indexed) {
+                sequence = indexed;
+                scanFrom = lastOffset + recordSize(last);
+            } else {
+                GameLogger.warning("Chat log index out of date - rebuilding");
+                indexed = 0;
+            }
+        }
+
+        long offset = scanFrom;
+        ChatMessage record;
+        while ((record = readRecordAt(offset)) != null && record.getSequence() == sequence + 1) {
+            sequence++;
+            writeIndexEntry(sequence, offset);
+            offset += recordSize(record);
+        }
+
+        log.truncate(offset);
+        index.truncate(sequence * INDEX_ENTRY_SIZE);
+        latestSequence = sequence;
+
+        if (sequence > indexed) {
+            GameLogger.gameFlow("Chat log re-indexed " + (sequence - indexed) + " messages");
+        }
+    }
+
+    public synchronized void append(ChatMessage message) throws IOException {
+        if (message.getSequence() != latestSequence + 1) {
+            throw new IOException("Chat log expected sequence " + (latestSequence + 1) + " but got " + message.getSequence());
+        }
+
+        if (broken) {
+            throw new IOException("Chat log could not roll back a failed write - reopen it to recover");
+        }
+
+        byte[] text = message.getText().getBytes(StandardCharsets.UTF_8);
+        if (Long.BYTES + text.length > MAX_RECORD_SIZE) {
+            throw new IOException("Chat message " + message.getSequence() + " exceeds the " + MAX_RECORD_SIZE + " byte record limit");
+        }
+        long offset = log.size();
+
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + text.length);
+        record.putInt(Long.BYTES + text.length).putLong(message.getSequence()).put(text).flip();
+        try {
+            writeFully(log, record, offset);
+            writeIndexEntry(message.getSequence(), offset);
+        } catch (IOException e) {
+            rollBack(offset, e);
+            throw e;
+        }
+
+        latestSequence = message.getSequence();
+    }
+
+    private void rollBack(long offset, IOException cause) {
+        try {
+            log.truncate(offset);
+            index.truncate(latestSequence * INDEX_ENTRY_SIZE);
+        } catch (IOException e) {
+            broken = true;
+            cause.addSuppressed(e);
+        }
+    }
+
+    public synchronized List<ChatMessage> read(long fromSequence, int count) throws IOException {
+        long first = Math.max(1, fromSequence);
+        long last = Math.min(latestSequence, first + count - 1);
+        List<ChatMessage> messages = new ArrayList<>((int) Math.max(0, last - first + 1));
+        if (first > last) {
+            return messages;
+        }
+
+        long offset = readIndexEntry(first);
+        for (long sequence = first; sequence <= last; sequence++) {
+            ChatMessage message = readRecordAt(offset);
+            if (message == null) {
+                break;
+            }
+            messages.add(message);
+            offset += recordSize(message);
+        }
+        return messages;
+    }
+
+    public synchronized long getLatestSequence() {
+        return latestSequence;
+    }
+
+    public synchronized void flush() throws IOException {
+        log.force(false);
+        index.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try (log; index) {
+            flush();
+        }
+    }
+
+    private ChatMessage readRecordAt(long offset) throws IOException {
+        if (offset + RECORD_HEADER_SIZE > log.size()) {
+            return null;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_SIZE);
+        readFully(log, header, offset);
+        int length = header.getInt();
+        long sequence = header.getLong();
+
+        int textLength = length - Long.BYTES;
+        if (textLength < 0 || length > MAX_RECORD_SIZE || offset + Integer.BYTES + length > log.size()) {
+            return null;
+        }
+
+        ByteBuffer text = ByteBuffer.allocate(textLength);
+        readFully(log, text, offset + RECORD_HEADER_SIZE);
+        return new ChatMessage(sequence, new String(text.array(), StandardCharsets.UTF_8));
+    }
+
+    private static int recordSize(ChatMessage message) {
+        return RECORD_HEADER_SIZE + message.getText().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private long readIndexEntry(long sequence) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        readFully(index, entry, (sequence - 1) * INDEX_ENTRY_SIZE);
+        return entry.getLong();
+    }
+
+    private void writeIndexEntry(long sequence, long offset) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        entry.putLong(offset).flip();
+        writeFully(index, entry, (sequence - 1) * INDEX_ENTRY_SIZE);
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of chat log");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package hr.algebra.theloop.rmi;
+
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Sequence s lives in ring slot (s - 1) % capacity
+public class ChatMessageStore {
+
+    public static final int MAX_MESSAGE_LENGTH = 2000;
+
+    private final ChatMessage[] ring;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ChatLog chatLog;
+    private final ExecutorService logWriter;
+    // Log writer thread only
+    private final Deque<ChatMessage> unwritten = new ArrayDeque<>();
+    private boolean logDisabled;
+
+    private long nextSequence = 1;
+
+    public ChatMessageStore(int capacity) {
+        this(capacity, null);
+    }
+
+    public ChatMessageStore(int capacity, ChatLog chatLog) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Chat history capacity must be positive: " + capacity);
+        }
+
+        this.ring = new ChatMessage[capacity];
+        this.chatLog = chatLog;
+        this.logWriter = chatLog == null ? null : Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ChatLogWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (chatLog != null) {
+            restoreFromLog();
+        }
+    }
+
+    private void restoreFromLog() {
+        long latest = chatLog.getLatestSequence();
+        long from = Math.max(1, latest - ring.length + 1);
+
+        try {
+            for (ChatMessage message : chatLog.read(from, ring.length)) {
+                ring[slotOf(message.getSequence())] = message;
+            }
+            nextSequence = latest + 1;
+            GameLogger.gameFlow("Chat history restored: " + latest + " messages");
+        } catch (IOException e) {
+            GameLogger.error("Failed to restore chat history: " + e.getMessage());
+        }
+    }
+
+    public ChatMessage append(String text) {
+        lock.writeLock().lock();
+        try {
+            ChatMessage message = new ChatMessage(nextSequence++, truncate(text));
+            ring[slotOf(message.getSequence())] = message;
+
+            // Queued under the lock to keep the log in sequence order
+            if (logWriter != null) {
+                logWriter.execute(() -> writeToLog(message));
+            }
+            return message;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<ChatMessage> getSince(long afterSequence) {
+        lock.readLock().lock();
+        try {
+            long oldest = oldestSequence();
+            long from = afterSequence >= nextSequence ? oldest : Math.max(afterSequence + 1, oldest);
+            return copyFromRing(from, nextSequence);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<ChatMessage> getPageBefore(long beforeSequence, int limit) {
+        List<ChatMessage> fromRing;
+        long before;
+        long from;
+        long oldest;
+
+        lock.readLock().lock();
+        try {
+            before = Math.min(beforeSequence, nextSequence);
+            from = Math.max(1, before - Math.max(0, limit));
+            oldest = oldestSequence();
+            fromRing = copyFromRing(Math.max(from, oldest), before);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (from >= oldest || chatLog == null) {
+            return fromRing;
+        }
+
+        List<ChatMessage> page = new ArrayList<>();
+        try {
+            page.addAll(chatLog.read(from, (int) (Math.min(oldest, before) - from)));
+        } catch (IOException e) {
+            GameLogger.warning("Chat history read failed: " + e.getMessage());
+        }
+        page.addAll(fromRing);
+        return page;
+    }
+
+    public List<String> getAllTexts() {
+        return getSince(0).stream().map(ChatMessage::getText).toList();
+    }
+
+    public long getLatestSequence() {
+        lock.readLock().lock();
+        try {
+            return nextSequence - 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    private List<ChatMessage> copyFromRing(long from, long to) {
+        List<ChatMessage> messages = new ArrayList<>((int) Math.max(0, to - from));
+        for (long sequence = from; sequence < to; sequence++) {
+            ChatMessage message = ring[slotOf(sequence)];
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private static String truncate(String text) {
+        if (text.length() <= MAX_MESSAGE_LENGTH) {
+            return text;
+        }
+        int end = Character.isHighSurrogate(text.charAt(MAX_MESSAGE_LENGTH - 1)) ? MAX_MESSAGE_LENGTH - 1 : MAX_MESSAGE_LENGTH;
+        return text.substring(0, end);
+    }
+
+    private long oldestSequence() {
+        return Math.max(1, nextSequence - ring.length);
+    }
+
+    private int slotOf(long sequence) {
+        return (int) ((sequence - 1) % ring.length);
+    }
+
+    // Log writer thread only
+    private void writeToLog(ChatMessage message) {
+        if (logDisabled) {
+            return;
+        }
+        unwritten.addLast(message);
+        writeUnwritten();
+    }
+
+    // Failed writes are retried in order, before anything newer
+    private void writeUnwritten() {
+        while (!unwritten.isEmpty()) {
+            try {
+                chatLog.append(unwritten.peekFirst());
+                unwritten.removeFirst();
+            } catch (IOException e) {
+                if (unwritten.size() > ring.length) {
+                    logDisabled = true;
+                    unwritten.clear();
+                    GameLogger.error("Chat log disabled, history will no longer be persisted: " + e.getMessage());
+                } else if (unwritten.size() == 1) {
+                    GameLogger.warning("Chat log append failed, will retry: " + e.getMessage());
+                }
+                return;
+            }
+        }
+    }
+
+    public void close() {
+        if (logWriter == null || logWriter.isShutdown()) {
+            return;
+        }
+
+        logWriter.execute(this::writeUnwritten);
+        logWriter.shutdown();
+        try {
+            logWriter.awaitTermination(5, TimeUnit.SECONDS);
+            chatLog.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            GameLogger.warning("Chat log close failed: " + e.getMessage());
+        }
+    }
+}
@@ -9,4 +9,10 @@ public interface ChatRemoteService extends Remote {
 
     void sendChatMessage(String message) throws RemoteException;
     List<String> getAllChatMessages() throws RemoteException;
-}
\ No newline at end of file
+
+    // A cursor ahead of the server gets the whole history back
+    List<ChatMessage> getMessagesSince(long afterSequence) throws RemoteException;
+
+    // Long.MAX_VALUE pages back from the newest message
+    List<ChatMessage> getHistoryPage(long beforeSequence, int limit) throws RemoteException;
+}
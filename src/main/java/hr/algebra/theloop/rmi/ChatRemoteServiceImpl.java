@@ -1,24 +1,65 @@
 package hr.algebra.theloop.rmi;
 
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.rmi.RemoteException;
-import java.util.ArrayList;
 import java.util.List;
 
 public class ChatRemoteServiceImpl implements ChatRemoteService {
 
-    private final List<String> chatMessages;
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final ChatMessageStore chatMessages;
 
     public ChatRemoteServiceImpl() {
-        chatMessages = new ArrayList<>();
+        this(new ChatMessageStore(
+                ConfigurationReader.getIntegerValueForKey(ConfigurationKey.CHAT_HISTORY_CAPACITY),
+                openConfiguredLog()));
+    }
+
+    public ChatRemoteServiceImpl(ChatMessageStore chatMessages) {
+        this.chatMessages = chatMessages;
+    }
+
+    private static ChatLog openConfiguredLog() {
+        String logFile = ConfigurationReader.getStringValueForKey(ConfigurationKey.CHAT_LOG_FILE);
+        if (logFile == null || logFile.isBlank()) {
+            return null;
+        }
+
+        try {
+            return ChatLog.open(Paths.get(logFile));
+        } catch (IOException e) {
+            GameLogger.error("Chat log unavailable, history will not persist: " + e.getMessage());
+            return null;
+        }
     }
 
     @Override
     public void sendChatMessage(String message) throws RemoteException {
-        chatMessages.add(message);
+        chatMessages.append(message);
     }
 
     @Override
     public List<String> getAllChatMessages() throws RemoteException {
-        return new ArrayList<>(chatMessages);
+        return chatMessages.getAllTexts();
+    }
+
+    @Override
+    public List<ChatMessage> getMessagesSince(long afterSequence) throws RemoteException {
+        return chatMessages.getSince(afterSequence);
+    }
+
+    @Override
+    public List<ChatMessage> getHistoryPage(long beforeSequence, int limit) throws RemoteException {
+        return chatMessages.getPageBefore(beforeSequence, Math.min(limit, MAX_PAGE_SIZE));
+    }
+
+    public ChatMessageStore getMessageStore() {
+        return chatMessages;
     }
-}
\ No newline at end of file
+}
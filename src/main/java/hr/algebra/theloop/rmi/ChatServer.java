@@ -23,7 +23,7 @@ public class ChatServer {
         try {
             Registry registry = LocateRegistry.createRegistry(RMI_PORT);
 
-            ChatRemoteService chatRemoteService = new ChatRemoteServiceImpl();
+            ChatRemoteServiceImpl chatRemoteService = new ChatRemoteServiceImpl();
 
             ChatRemoteService skeleton = (ChatRemoteService) UnicastRemoteObject.exportObject(
                     chatRemoteService, RANDOM_PORT_HINT);
@@ -38,6 +38,7 @@ public class ChatServer {
             }
 
             GameLogger.gameFlow("💤 Chat Server shutting down gracefully...");
+            chatRemoteService.getMessageStore().close();
 
         } catch (RemoteException e) {
             GameLogger.error("Failed to start Chat Server: " + e.getMessage());
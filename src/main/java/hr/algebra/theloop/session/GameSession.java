@@ -0,0 +1,120 @@
+package hr.algebra.theloop.session;
+
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.model.PlayerMode;
+import hr.algebra.theloop.utils.GameLogger;
+import hr.algebra.theloop.utils.LogContext;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class GameSession {
+
+    private final String sessionId;
+    private final ExecutorService executor;
+    private final GameEngine gameEngine;
+    private final Consumer<GameSession> peerLeftListener;
+    private final AtomicInteger pendingJoins = new AtomicInteger();
+    private volatile long idleSinceMillis = System.currentTimeMillis();
+
+    GameSession(String sessionId, long randomSeed, Consumer<GameSession> peerLeftListener) {
+        this.sessionId = sessionId;
+        this.peerLeftListener = peerLeftListener;
+        this.gameEngine = new GameEngine(this::dispatch, randomSeed);
+
+        LogContext logContext = gameEngine.getLogContext();
+        ThreadFactory threads = Thread.ofVirtual().name("GameSession-" + sessionId).factory();
+        this.executor = Executors.newSingleThreadExecutor(task -> threads.newThread(() -> {
+            GameLogger.bindContext(logContext);
+            task.run();
+        }));
+        gameEngine.getNetworkManager().setPeerClosedListener(this::onPeerLeft);
+
+        executor.execute(this::initialize);
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            GameLogger.gameFlow("Session " + sessionId + " closed - dropped late engine task");
+        }
+    }
+
+    private void initialize() {
+        gameEngine.getGameState().getResources().setDuplicatePoolingEnabled(true);
+        gameEngine.setupMultiplayerPlayers(PlayerMode.PLAYER_ONE);
+        gameEngine.getNetworkManager().setSessionHosted(true);
+        gameEngine.setPlayerMode(PlayerMode.PLAYER_ONE);
+        gameEngine.startGame();
+        gameEngine.registerGauges("session." + sessionId + ".");
+
+        GameLogger.gameFlow("Session " + sessionId + " started (seed " + gameEngine.getGameState().getRandomSeed() + ")");
+    }
+
+    // Counted as pending until the peer is registered
+    void attachPeer(Socket socket) {
+        pendingJoins.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                gameEngine.getNetworkManager().attachHostedPeer(socket);
+                GameLogger.gameFlow("Peer " + socket.getRemoteSocketAddress() + " joined session " + sessionId);
+            } catch (IOException e) {
+                GameLogger.error("Failed to attach peer to session " + sessionId + ": " + e.getMessage());
+                closeQuietly(socket);
+            } finally {
+                if (pendingJoins.decrementAndGet() == 0 && getConnectedPeerCount() == 0) {
+                    onPeerLeft();
+                }
+            }
+        });
+    }
+
+    private void onPeerLeft() {
+        if (getConnectedPeerCount() == 0) {
+            idleSinceMillis = System.currentTimeMillis();
+            peerLeftListener.accept(this);
+        }
+    }
+
+    boolean isIdle() {
+        return pendingJoins.get() == 0 && getConnectedPeerCount() == 0;
+    }
+
+    long getIdleSinceMillis() {
+        return idleSinceMillis;
+    }
+
+    public <T> CompletableFuture<T> submit(Function<GameEngine, T> action) {
+        return CompletableFuture.supplyAsync(() -> action.apply(gameEngine), executor);
+    }
+
+    void close() {
+        executor.execute(gameEngine::shutdown);
+        executor.shutdown();
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public int getConnectedPeerCount() {
+        return gameEngine.getNetworkManager().getConnectedPeerCount();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            GameLogger.warning("Error closing socket: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package hr.algebra.theloop.session;
+
+import hr.algebra.theloop.networking.NetworkingUtils;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.*;
+import java.util.logging.Level;
+
+public class SessionHost implements Runnable {
+
+    private static final int JOIN_TIMEOUT_MS = 5000;
+    private static final int DEFAULT_MAX_SESSIONS = 64;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int port;
+    private final int maxSessions;
+    private final long idleTimeoutMillis;
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService reaper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "SessionReaper");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean running = false;
+    private ServerSocket serverSocket;
+
+    public SessionHost(int port, int maxSessions) {
+        this(port, maxSessions, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public SessionHost(int port, int maxSessions, Duration idleTimeout) {
+        this.port = port;
+        this.maxSessions = maxSessions;
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    @Override
+    public void run() {
+        running = true;
+
+        try (ServerSocket server = new ServerSocket(port)) {
+            this.serverSocket = server;
+            GameLogger.gameFlow("Session host listening on port: " + port + " (max " + maxSessions + " sessions)");
+
+            while (running && !Thread.currentThread().isInterrupted()) {
+                acceptConnection();
+            }
+
+        } catch (IOException e) {
+            GameLogger.error("Failed to start session host on port " + port + ": " + e.getMessage());
+        }
+    }
+
+    private void acceptConnection() {
+        try {
+            Socket socket = serverSocket.accept();
+            Thread.ofVirtual()
+                    .name("SessionJoin-" + socket.getRemoteSocketAddress())
+                    .start(() -> routeToSession(socket));
+        } catch (IOException e) {
+            if (running) {
+                GameLogger.error("Error accepting session connection: " + e.getMessage());
+            }
+        }
+    }
+
+    private void routeToSession(Socket socket) {
+        try {
+            socket.setSoTimeout(JOIN_TIMEOUT_MS);
+            String sessionId = NetworkingUtils.readJoinFrame(new DataInputStream(socket.getInputStream()));
+            socket.setSoTimeout(0);
+
+            if (!joinSession(sessionId, socket)) {
+                GameLogger.warning("Session limit reached (" + maxSessions + ") - rejected join to " + sessionId);
+                socket.close();
+            }
+
+        } catch (IOException e) {
+            GameLogger.warning("Rejected connection from " + socket.getRemoteSocketAddress() + ": " + e.getMessage());
+            closeQuietly(socket);
+        } catch (RejectedExecutionException e) {
+            GameLogger.warning("Session closed while " + socket.getRemoteSocketAddress() + " was joining");
+            closeQuietly(socket);
+        }
+    }
+
+    // Same lock as closeIfIdle
+    private boolean joinSession(String sessionId, Socket socket) {
+        synchronized (sessions) {
+            GameSession session = getOrCreateSession(sessionId);
+            if (session == null) {
+                return false;
+            }
+            session.attachPeer(socket);
+            return true;
+        }
+    }
+
+    public GameSession getOrCreateSession(String sessionId) {
+        GameSession existing = sessions.get(sessionId);
+        if (existing != null) {
+            return existing;
+        }
+
+        synchronized (sessions) {
+            existing = sessions.get(sessionId);
+            if (existing != null) {
+                return existing;
+            }
+            if (sessions.size() >= maxSessions) {
+                return null;
+            }
+
+            GameSession session = new GameSession(sessionId, ThreadLocalRandom.current().nextLong(), this::scheduleIdleCheck);
+            sessions.put(sessionId, session);
+            scheduleIdleCheck(session);
+            return session;
+        }
+    }
+
+    private void scheduleIdleCheck(GameSession session) {
+        scheduleIdleCheck(session, idleTimeoutMillis);
+    }
+
+    private void scheduleIdleCheck(GameSession session, long delayMillis) {
+        try {
+            reaper.schedule(() -> closeIfIdle(session), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+        }
+    }
+
+    private void closeIfIdle(GameSession session) {
+        synchronized (sessions) {
+            if (sessions.get(session.getSessionId()) != session || !session.isIdle()) {
+                return;
+            }
+
+            long idleMillis = System.currentTimeMillis() - session.getIdleSinceMillis();
+            if (idleMillis < idleTimeoutMillis) {
+                scheduleIdleCheck(session, idleTimeoutMillis - idleMillis);
+                return;
+            }
+
+            GameLogger.gameFlow("Session " + session.getSessionId() + " idle for " + idleMillis + " ms");
+            closeSession(session.getSessionId());
+        }
+    }
+
+    public void closeSession(String sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session != null) {
+            session.close();
+            GameLogger.gameFlow("Session " + sessionId + " closed");
+        }
+    }
+
+    public Collection<GameSession> getSessions() {
+        return sessions.values();
+    }
+
+    public void stop() {
+        running = false;
+
+        if (serverSocket != null && !serverSocket.isClosed()) {
+            try {
+                serverSocket.close();
+            } catch (IOException e) {
+                GameLogger.warning("Error closing session host socket: " + e.getMessage());
+            }
+        }
+
+        reaper.shutdownNow();
+        sessions.keySet().forEach(this::closeSession);
+        GameLogger.gameFlow("Session host stopped");
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            GameLogger.warning("Error closing socket: " + e.getMessage());
+        }
+    }
+
+    public static void main(String[] args) {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : NetworkingUtils.getHostPort();
+        int maxSessions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_SESSIONS;
+        Duration idleTimeout = args.length > 2 ? Duration.ofSeconds(Long.parseLong(args[2])) : DEFAULT_IDLE_TIMEOUT;
+
+        GameLogger.setLevel(Level.WARNING);
+        GameLogger.configure();
+        new SessionHost(port, maxSessions, idleTimeout).run();
+    }
+}
@@ -0,0 +1,93 @@
+package hr.algebra.theloop.simulation;
+
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.model.GameResult;
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Level;
+
+public class GameSimulator {
+
+    private static final int GAMES_PER_TASK = 256;
+    private static final int DEFAULT_GAME_COUNT = 10_000;
+
+    private final ForkJoinPool pool;
+
+    public GameSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public GameSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public SimulationResult simulate(int gameCount, long seed) {
+        if (gameCount < 0) {
+            throw new IllegalArgumentException("Game count cannot be negative: " + gameCount);
+        }
+
+        return pool.invoke(new SimulationTask(new SplittableRandom(seed), 0, gameCount));
+    }
+
+    private static void playGame(long randomSeed, SimulationResult result) {
+        GameEngine gameEngine = new SimulatedGame(randomSeed).play();
+        GameState gameState = gameEngine.getGameState();
+
+        GameResult gameResult = gameState.getGameResult() != null ? gameState.getGameResult() : GameResult.ONGOING;
+        result.recordGame(gameResult, gameState.getTurnNumber(), gameState.getCurrentCycle(),
+                gameState.getTotalMissionsCompleted());
+    }
+
+    private static class SimulationTask extends RecursiveTask<SimulationResult> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient SplittableRandom random;
+        private final int from;
+        private final int to;
+
+        SimulationTask(SplittableRandom random, int from, int to) {
+            this.random = random;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                SimulationResult result = new SimulationResult();
+                for (int i = from; i < to; i++) {
+                    playGame(random.nextLong(), result);
+                }
+                return result;
+            }
+
+            int middle = (from + to) >>> 1;
+            SimulationTask left = new SimulationTask(random.split(), from, middle);
+            SimulationTask right = new SimulationTask(random, middle, to);
+
+            left.fork();
+            SimulationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    public static void main(String[] args) {
+        int gameCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAME_COUNT;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+
+        GameLogger.setLevel(Level.SEVERE);
+
+        long start = System.nanoTime();
+        SimulationResult result = new GameSimulator().simulate(gameCount, seed);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println(result);
+        System.out.printf("Seed: %d, parallelism: %d, elapsed: %d ms%n",
+                seed, ForkJoinPool.commonPool().getParallelism(), elapsedMillis);
+    }
+}
@@ -0,0 +1,106 @@
+package hr.algebra.theloop.simulation;
+
+import hr.algebra.theloop.cards.ArtifactCard;
+import hr.algebra.theloop.cards.MovementCard;
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.model.Era;
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.model.Player;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.util.List;
+
+public class SimulatedGame {
+
+    private static final int MAX_TURNS = 500;
+
+    private final GameEngine gameEngine;
+
+    public SimulatedGame(long randomSeed) {
+        this.gameEngine = GameEngine.createHeadless(randomSeed);
+    }
+
+    public GameEngine play() {
+        GameLogger.bindContext(gameEngine.getLogContext());
+        try {
+            gameEngine.startGame();
+
+            int turns = 0;
+            while (!gameEngine.isGameOver() && turns < MAX_TURNS) {
+                playPlayerTurn(gameEngine.getCurrentPlayer());
+
+                if (!gameEngine.isGameOver()) {
+                    gameEngine.endPlayerTurn();
+                    gameEngine.processTurn();
+                }
+                turns++;
+            }
+
+            return gameEngine;
+        } finally {
+            GameLogger.unbindContext();
+        }
+    }
+
+    private void playPlayerTurn(Player player) {
+        moveTowardsThreats(player);
+        playReadyCards(player);
+    }
+
+    private void moveTowardsThreats(Player player) {
+        GameState gameState = gameEngine.getGameState();
+        Era currentEra = player.getCurrentEra();
+
+        if (threatLevel(gameState, currentEra) > 0) {
+            return;
+        }
+
+        Era bestEra = threatLevel(gameState, currentEra.getNext()) >= threatLevel(gameState, currentEra.getPrevious())
+                ? currentEra.getNext() : currentEra.getPrevious();
+
+        if (threatLevel(gameState, bestEra) > 0) {
+            gameEngine.movePlayer(player, bestEra);
+        }
+    }
+
+    private void playReadyCards(Player player) {
+        List<ArtifactCard> hand = player.getHand();
+
+        for (int i = 0; i < hand.size() && !gameEngine.isGameOver(); i++) {
+            ArtifactCard card = hand.get(i);
+
+            if (card instanceof MovementCard movementCard) {
+                playMovementCard(player, i, movementCard);
+            } else {
+                gameEngine.playCard(player, i, player.getCurrentEra());
+            }
+        }
+    }
+
+    private void playMovementCard(Player player, int cardIndex, MovementCard movementCard) {
+        GameState gameState = gameEngine.getGameState();
+        Era targetEra = null;
+
+        for (Era candidate : movementCard.getValidTargets(player.getCurrentEra())) {
+            if (targetEra == null || threatLevel(gameState, candidate) > threatLevel(gameState, targetEra)) {
+                targetEra = candidate;
+            }
+        }
+
+        if (targetEra == null || threatLevel(gameState, targetEra) <= threatLevel(gameState, player.getCurrentEra())) {
+            return;
+        }
+
+        if (gameEngine.playCard(player, cardIndex, targetEra)) {
+            movementCard.executeMovement(gameState, player, targetEra);
+            gameEngine.getMissionManager().checkAllMissions(gameState, player, "MovementCard");
+        }
+    }
+
+    private int threatLevel(GameState gameState, Era era) {
+        if (gameState.hasVortex(era)) {
+            return 0;
+        }
+        return gameState.getRifts(era) + gameState.getDuplicateCount(era);
+    }
+}
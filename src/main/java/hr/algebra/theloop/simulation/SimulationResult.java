@@ -0,0 +1,75 @@
+package hr.algebra.theloop.simulation;
+
+import hr.algebra.theloop.model.GameResult;
+
+public class SimulationResult {
+
+    private final long[] resultCounts;
+    private long gamesPlayed;
+    private long totalTurns;
+    private long totalCycles;
+    private long totalMissionsCompleted;
+
+    public SimulationResult() {
+        this.resultCounts = new long[GameResult.values().length];
+    }
+
+    public void recordGame(GameResult result, int turns, int cycles, int missionsCompleted) {
+        resultCounts[result.ordinal()]++;
+        gamesPlayed++;
+        totalTurns += turns;
+        totalCycles += cycles;
+        totalMissionsCompleted += missionsCompleted;
+    }
+
+    public SimulationResult merge(SimulationResult other) {
+        for (int i = 0; i < resultCounts.length; i++) {
+            resultCounts[i] += other.resultCounts[i];
+        }
+        gamesPlayed += other.gamesPlayed;
+        totalTurns += other.totalTurns;
+        totalCycles += other.totalCycles;
+        totalMissionsCompleted += other.totalMissionsCompleted;
+        return this;
+    }
+
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public long getCount(GameResult result) {
+        return resultCounts[result.ordinal()];
+    }
+
+    public double getRate(GameResult result) {
+        return gamesPlayed == 0 ? 0.0 : (double) getCount(result) / gamesPlayed;
+    }
+
+    public double getAverageTurns() {
+        return gamesPlayed == 0 ? 0.0 : (double) totalTurns / gamesPlayed;
+    }
+
+    public double getAverageCycles() {
+        return gamesPlayed == 0 ? 0.0 : (double) totalCycles / gamesPlayed;
+    }
+
+    public double getAverageMissionsCompleted() {
+        return gamesPlayed == 0 ? 0.0 : (double) totalMissionsCompleted / gamesPlayed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Games played: %d%n", gamesPlayed));
+
+        for (GameResult result : GameResult.values()) {
+            report.append(String.format("  %-16s %10d (%6.2f%%)%n",
+                    result.name(), getCount(result), getRate(result) * 100));
+        }
+
+        report.append(String.format("Average turns: %.2f%n", getAverageTurns()));
+        report.append(String.format("Average cycles: %.2f%n", getAverageCycles()));
+        report.append(String.format("Average missions completed: %.2f", getAverageMissionsCompleted()));
+        return report.toString();
+    }
+}
@@ -0,0 +1,72 @@
+package hr.algebra.theloop.thread;
+
+import hr.algebra.theloop.jfr.AutoSaveEvent;
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.persistence.GamePersistenceManager;
+import hr.algebra.theloop.persistence.GameStateSnapshot;
+import hr.algebra.theloop.persistence.PersistenceService;
+import hr.algebra.theloop.persistence.SaveCompression;
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.format.DateTimeFormatter;
+
+public class AutoSaveTask implements Runnable {
+
+    private static final SaveCompression AUTO_SAVE_COMPRESSION = SaveCompression.fromConfigValue(
+            ConfigurationReader.getStringValueForKey(ConfigurationKey.AUTO_SAVE_COMPRESSION));
+
+    private final GameStateSnapshot snapshot;
+
+    public AutoSaveTask(GameStateSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    @Override
+    public void run() {
+        AutoSaveEvent event = new AutoSaveEvent();
+        event.begin();
+        String fileName = generateFileName();
+        boolean saved = false;
+
+        try {
+            Path savesPath = createSavesDirectory();
+            String fullPath = saveGameState(savesPath, fileName);
+            saved = true;
+
+            GameLogger.success("Auto-save completed: " + fullPath);
+            GamePersistenceManager.applyRetention();
+
+        } catch (Exception e) {
+            GameLogger.error("Auto-save failed: " + e.getMessage());
+        } finally {
+            event.complete(fileName, snapshot.getHeader().getTurnNumber(), saved);
+        }
+    }
+
+    private Path createSavesDirectory() throws IOException {
+        Path projectRoot = Paths.get(System.getProperty("user.dir"));
+        Path savesPath = projectRoot.resolve("saves");
+
+        if (!Files.exists(savesPath)) {
+            Files.createDirectories(savesPath);
+        }
+
+        return savesPath;
+    }
+
+    private String generateFileName() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
+        return "autosave_" + snapshot.getCapturedAt().format(formatter) + ".dat";
+    }
+
+    private String saveGameState(Path savesPath, String fileName) throws IOException {
+        Path filePath = savesPath.resolve(fileName);
+        PersistenceService.INSTANCE.write(filePath, snapshot, AUTO_SAVE_COMPRESSION);
+        return filePath.toAbsolutePath().toString();
+    }
+}
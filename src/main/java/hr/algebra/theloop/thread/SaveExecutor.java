@@ -0,0 +1,53 @@
+package hr.algebra.theloop.thread;
+
+import hr.algebra.theloop.utils.GameLogger;
+
+import java.util.concurrent.*;
+
+public enum SaveExecutor {
+    INSTANCE;
+
+    private static final int QUEUE_CAPACITY = 8;
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "SaveExecutor");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final ConcurrentHashMap<String, Runnable> pendingByKey = new ConcurrentHashMap<>();
+
+    // Only the newest task per key runs; anything it replaces while still queued is dropped
+    public void submitCoalesced(String key, Runnable task) {
+        if (pendingByKey.put(key, task) != null) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> runLatest(key));
+        } catch (RejectedExecutionException e) {
+            pendingByKey.remove(key, task);
+            GameLogger.warning("Save queue full - dropped " + key);
+        }
+    }
+
+    private void runLatest(String key) {
+        Runnable latest = pendingByKey.remove(key);
+        if (latest == null) {
+            return;
+        }
+
+        try {
+            latest.run();
+        } catch (RuntimeException e) {
+            GameLogger.error("Save task " + key + " failed: " + e.getMessage());
+        }
+    }
+
+    public boolean isIdle() {
+        return executor.getActiveCount() == 0 && executor.getQueue().isEmpty();
+    }
+}
@@ -1,55 +1,74 @@
 package hr.algebra.theloop.thread;
 
 import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.engine.PlayerManager;
+import hr.algebra.theloop.metrics.MetricsExporter;
+import hr.algebra.theloop.model.GameState;
+import hr.algebra.theloop.persistence.GameJournal;
+import hr.algebra.theloop.persistence.GamePersistenceManager;
+import hr.algebra.theloop.persistence.GameStateSnapshot;
 import hr.algebra.theloop.utils.GameLogger;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.util.Duration;
 
+import java.io.IOException;
+
 public class ThreadingManager {
 
     private final GameEngine gameEngine;
-    private Timeline autoSaveTimeline;
+    private final GameJournal journal;
+    private Timeline checkpointTimeline;
     private boolean isRunning = false;
 
-    private static final int AUTO_SAVE_INTERVAL = 120;
+    private static final int CHECKPOINT_INTERVAL = 120;
+    private static final String AUTO_SAVE_KEY = "autosave";
+    private static final String RETENTION_KEY = "retention";
 
     public ThreadingManager(GameEngine gameEngine) {
         this.gameEngine = gameEngine;
-        setupAutoSaveTimeline();
+        this.journal = new GameJournal(GamePersistenceManager.getJournalDirectory());
+        setupCheckpointTimeline();
     }
 
-    private void setupAutoSaveTimeline() {
-        autoSaveTimeline = new Timeline(
-                new KeyFrame(Duration.ZERO, e -> performAutoSave()),
-                new KeyFrame(Duration.seconds(AUTO_SAVE_INTERVAL))
+    private void setupCheckpointTimeline() {
+        checkpointTimeline = new Timeline(
+                new KeyFrame(Duration.ZERO, e -> performCheckpoint()),
+                new KeyFrame(Duration.seconds(CHECKPOINT_INTERVAL))
         );
-        autoSaveTimeline.setCycleCount(Animation.INDEFINITE);
+        checkpointTimeline.setCycleCount(Animation.INDEFINITE);
     }
 
-    private void performAutoSave() {
-        if (gameEngine.isGameOver()) {
+    // The timer only checkpoints the journal; full saves happen on request
+    private void performCheckpoint() {
+        if (gameEngine.isGameOver() || !journal.isStarted()) {
             return;
         }
 
-        AutoSaveThread saveThread = new AutoSaveThread(gameEngine.getGameState());
-        Thread thread = new Thread(saveThread, "AutoSave-Thread");
-        thread.setDaemon(true);
-        thread.start();
+        GameState gameState = gameEngine.getGameState();
+        PlayerManager playerManager = gameEngine.getPlayerManager();
+        gameState.saveAllPlayerStates(playerManager.getPlayers(), playerManager.getCurrentPlayerIndex());
+        journal.checkpoint(gameState);
     }
 
     public void start() {
         if (!isRunning) {
-            autoSaveTimeline.play();
+            gameEngine.setJournal(journal);
+            SaveExecutor.INSTANCE.submitCoalesced(RETENTION_KEY, GamePersistenceManager::applyRetention);
+            checkpointTimeline.play();
+            MetricsExporter.INSTANCE.start();
             isRunning = true;
-            GameLogger.gameFlow("Background threading started (auto-save every " + AUTO_SAVE_INTERVAL + "s)");
+            GameLogger.gameFlow("Background threading started (checkpoint every " + CHECKPOINT_INTERVAL + "s)");
         }
     }
 
     public void stop() {
         if (isRunning) {
-            autoSaveTimeline.stop();
+            checkpointTimeline.stop();
+            gameEngine.setJournal(null);
+            journal.close();
+            MetricsExporter.INSTANCE.stop();
             isRunning = false;
             GameLogger.gameFlow("Background threading stopped");
         }
@@ -57,7 +76,20 @@ public class ThreadingManager {
 
     public void forceAutoSave() {
         GameLogger.gameFlow("Manual save requested");
-        performAutoSave();
+        if (gameEngine.isGameOver()) {
+            return;
+        }
+
+        try {
+            GameState gameState = gameEngine.getGameState();
+            PlayerManager playerManager = gameEngine.getPlayerManager();
+            gameState.saveAllPlayerStates(playerManager.getPlayers(), playerManager.getCurrentPlayerIndex());
+
+            GameStateSnapshot snapshot = GameStateSnapshot.capture(gameState);
+            SaveExecutor.INSTANCE.submitCoalesced(AUTO_SAVE_KEY, new AutoSaveTask(snapshot));
+        } catch (IOException e) {
+            GameLogger.error("Auto-save snapshot failed: " + e.getMessage());
+        }
     }
 
     public boolean isRunning() {
@@ -0,0 +1,22 @@
+package hr.algebra.theloop.ui;
+
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
+import javafx.application.Platform;
+
+public class FxUIUpdateDispatcher implements UIUpdateDispatcher {
+
+    public static final FxUIUpdateDispatcher INSTANCE = new FxUIUpdateDispatcher();
+
+    private FxUIUpdateDispatcher() {
+    }
+
+    @Override
+    public void dispatch(Runnable uiUpdate) {
+        Platform.runLater(uiUpdate);
+    }
+
+    @Override
+    public boolean isDesktop() {
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package hr.algebra.theloop.ui;
 
 import hr.algebra.theloop.config.ConfigurationManager;
+import hr.algebra.theloop.metrics.GameMetrics;
 import hr.algebra.theloop.model.Era;
 import hr.algebra.theloop.model.GameState;
 import hr.algebra.theloop.missions.Mission;
@@ -68,6 +69,7 @@ public class GameUIManager {
 
     public void updateAll(GameState state, Player currentPlayer, boolean gameOver,
                           boolean waitingForPlayerInput, int duplicatesInBag, int duplicatesOnBoard) {
+        long start = System.nanoTime();
         updateStatusLabels(state);
         updateBoard(state, currentPlayer);
         updatePlayerInfo(currentPlayer);
@@ -86,6 +88,8 @@ public class GameUIManager {
             Player displayPlayer = multiplayerHelper != null ? multiplayerHelper.getDisplayPlayer() : currentPlayer;
             handManager.updateHand(displayPlayer);
         }
+
+        GameMetrics.UI_UPDATE.recordSince(start);
     }
 
     private void updateStatusLabels(GameState state) {
@@ -0,0 +1,110 @@
+package hr.algebra.theloop.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+// Multi-producer ring, single writer: a producer fills slot i when its sequence equals the claimed
+// position, the writer drains it when it is one past that
+public class AsyncLogSink {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FLUSH_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LogEvent[] ring;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final Consumer<LogEvent> writer;
+    private final Thread writerThread;
+
+    private volatile boolean writerParked = false;
+
+    public AsyncLogSink(int capacity, Consumer<LogEvent> writer) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1) << 1);
+        this.ring = new LogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.writer = writer;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+
+        this.writerThread = new Thread(this::drainLoop, "GameLogWriter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    public boolean publish(LogEvent event) {
+        long position = claimed.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long available = sequences.get(slot) - position;
+
+            if (available == 0) {
+                if (claimed.compareAndSet(position, position + 1)) {
+                    ring[slot] = event;
+                    sequences.set(slot, position + 1);
+                    if (writerParked) {
+                        LockSupport.unpark(writerThread);
+                    }
+                    return true;
+                }
+                position = claimed.get();
+            } else if (available < 0) {
+                return false;
+            } else {
+                position = claimed.get();
+            }
+        }
+    }
+
+    public void flush(long timeoutMillis) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        while (drained.get() < target && System.nanoTime() < deadline) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(FLUSH_POLL_NANOS);
+        }
+    }
+
+    public int getCapacity() {
+        return ring.length;
+    }
+
+    private void drainLoop() {
+        long position = 0;
+        while (true) {
+            int slot = (int) (position & mask);
+            if (sequences.get(slot) != position + 1) {
+                park(slot, position);
+                continue;
+            }
+
+            LogEvent event = ring[slot];
+            ring[slot] = null;
+            sequences.set(slot, position + ring.length);
+
+            try {
+                writer.accept(event);
+            } catch (RuntimeException e) {
+                // keep the writer alive
+            }
+            drained.set(++position);
+        }
+    }
+
+    // Re-checks after announcing the park so a publish racing with it cannot be missed
+    private void park(int slot, long position) {
+        writerParked = true;
+        if (sequences.get(slot) != position + 1) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        writerParked = false;
+    }
+}
@@ -1,66 +1,195 @@
 package hr.algebra.theloop.utils;
 
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
 import hr.algebra.theloop.missions.Mission;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GameLogger {
 
     private static final Logger logger = Logger.getLogger(GameLogger.class.getName());
 
-    public static final boolean DEBUG_MODE = false;
-    public static final boolean VERBOSE_MODE = false;
-    public static final boolean PRODUCTION_MODE = true;
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final long SHUTDOWN_FLUSH_MILLIS = 1000;
+    private static final Object[] NO_FIELDS = {};
+
+    private static final AtomicLong dropped = new AtomicLong();
+    private static final AsyncLogSink sink = new AsyncLogSink(BUFFER_CAPACITY, GameLogger::write);
+
+    private static volatile int[] categoryLevels = defaultLevels();
+    private static volatile int globalLevel = Level.ALL.intValue();
+
+    private static final ThreadLocal<LogContext> boundContext = new ThreadLocal<>();
+    private static volatile LogContext defaultContext = new LogContext();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> sink.flush(SHUTDOWN_FLUSH_MILLIS), "GameLogFlush"));
+    }
 
     private GameLogger() {
     }
 
-    public static void gameFlow(String message) {
-        if (!PRODUCTION_MODE && DEBUG_MODE) {
-            logger.info(() -> "🎮 " + message);
+    public static void setLevel(Level level) {
+        logger.setLevel(level);
+        globalLevel = level.intValue();
+    }
+
+    public static void setCategoryLevel(LogCategory category, Level level) {
+        int[] levels = categoryLevels.clone();
+        levels[category.ordinal()] = level.intValue();
+        categoryLevels = levels;
+    }
+
+    public static boolean isEnabled(LogCategory category) {
+        int severity = category.getSeverity().intValue();
+        return severity >= categoryLevels[category.ordinal()] && severity >= globalLevel;
+    }
+
+    // Applies log.levels, e.g. "DR_FOO=INFO,GAME_FLOW=INFO"; categories not listed keep their defaults
+    public static void configure() {
+        String levels = ConfigurationReader.getStringValueForKey(ConfigurationKey.LOG_LEVELS);
+        if (levels == null || levels.isBlank()) {
+            return;
+        }
+
+        for (String entry : levels.split(",")) {
+            String[] parts = entry.split("=", 2);
+            try {
+                setCategoryLevel(LogCategory.valueOf(parts[0].trim().toUpperCase()), Level.parse(parts[1].trim().toUpperCase()));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                warning("Ignoring log level setting: " + entry.trim());
+            }
+        }
+    }
+
+    public static void setDefaultContext(LogContext context) {
+        defaultContext = context;
+    }
+
+    public static void bindContext(LogContext context) {
+        boundContext.set(context);
+    }
+
+    public static void unbindContext() {
+        boundContext.remove();
+    }
+
+    public static void flush() {
+        sink.flush(SHUTDOWN_FLUSH_MILLIS);
+    }
+
+    public static void log(LogCategory category, String message) {
+        if (isEnabled(category)) {
+            publish(category, message, NO_FIELDS);
         }
     }
 
+    public static void log(LogCategory category, String message, String key, Object value) {
+        if (isEnabled(category)) {
+            publish(category, message, new Object[]{key, value});
+        }
+    }
+
+    public static void log(LogCategory category, String message,
+                           String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(category)) {
+            publish(category, message, new Object[]{key1, value1, key2, value2});
+        }
+    }
+
+    public static void gameFlow(String message) {
+        log(LogCategory.GAME_FLOW, message);
+    }
+
     public static void playerAction(String playerName, String action) {
-        if (!PRODUCTION_MODE && VERBOSE_MODE) {
-            logger.info(() -> "👤 " + playerName + ": " + action);
+        log(LogCategory.PLAYER_ACTION, action, "player", playerName);
+    }
+
+    public static void playerAction(String playerName, String action, String key, Object value) {
+        log(LogCategory.PLAYER_ACTION, action, "player", playerName, key, value);
+    }
+
+    public static void playerAction(String playerName, String action,
+                                    String key1, Object value1, String key2, Object value2) {
+        if (isEnabled(LogCategory.PLAYER_ACTION)) {
+            publish(LogCategory.PLAYER_ACTION, action, new Object[]{"player", playerName, key1, value1, key2, value2});
         }
     }
 
     public static void mission(String message) {
-        if (!PRODUCTION_MODE) {
-            logger.info(() -> "🎯 " + message);
-        }
+        log(LogCategory.MISSION, message);
     }
 
     public static void drFoo(String message) {
-        if (!PRODUCTION_MODE && DEBUG_MODE) {
-            logger.info(() -> "🤖 Dr. Foo: " + message);
-        }
+        log(LogCategory.DR_FOO, message);
     }
 
     public static void error(String message) {
-        logger.severe(() -> "❌ ERROR: " + message);
+        log(LogCategory.ERROR, message);
     }
 
     public static void success(String message) {
-        logger.info(() -> "✅ " + message);
+        log(LogCategory.SUCCESS, message);
     }
 
     public static void warning(String message) {
-        logger.warning(() -> "⚠️ " + message);
+        log(LogCategory.WARNING, message);
     }
 
     public static void gameEnd(String result) {
-        logger.info(() -> "\n🏁 GAME END: " + result + "\n");
+        log(LogCategory.GAME_END, result);
     }
 
     public static void missionCreated(Mission mission) {
-        if (!PRODUCTION_MODE) {
-            logger.info(() -> "[MISSION CREATED] " + mission.getName() + " - " + mission.getDescription());
+        if (isEnabled(LogCategory.MISSION)) {
+            publish(LogCategory.MISSION, "[MISSION CREATED] " + mission.getName() + " - " + mission.getDescription(), NO_FIELDS);
         }
     }
 
     public static void missionCompleted(Mission mission, String playerName) {
-        logger.info(() -> "[MISSION COMPLETED] " + mission.getName() + " by " + playerName + " - " + mission.getDescription());
+        if (isEnabled(LogCategory.SUCCESS)) {
+            publish(LogCategory.SUCCESS, "[MISSION COMPLETED] " + mission.getName() + " - " + mission.getDescription(),
+                    new Object[]{"player", playerName});
+        }
+    }
+
+    // Warnings and errors are never dropped
+    private static void publish(LogCategory category, String message, Object[] fields) {
+        LogContext context = boundContext.get();
+        if (context == null) {
+            context = defaultContext;
+        }
+
+        LogEvent event = new LogEvent(System.currentTimeMillis(), category, context.getGameId(), context.getTurn(),
+                message, fields);
+        if (sink.publish(event)) {
+            return;
+        }
+
+        if (category.getSeverity().intValue() >= Level.WARNING.intValue()) {
+            write(event);
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void write(LogEvent event) {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            logger.warning(LogCategory.WARNING.getPrefix() + lost + " log events dropped - log buffer full");
+        }
+        logger.log(event.getCategory().getSeverity(), event.format());
+    }
+
+    private static int[] defaultLevels() {
+        LogCategory[] categories = LogCategory.values();
+        int[] levels = new int[categories.length];
+        for (LogCategory category : categories) {
+            levels[category.ordinal()] = category.getDefaultLevel().intValue();
+        }
+        return levels;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package hr.algebra.theloop.utils;
+
+import java.util.logging.Level;
+
+public enum LogCategory {
+
+    GAME_FLOW("🎮 ", Level.INFO, Level.OFF),
+    PLAYER_ACTION("👤 ", Level.INFO, Level.OFF),
+    MISSION("🎯 ", Level.INFO, Level.OFF),
+    DR_FOO("🤖 Dr. Foo: ", Level.INFO, Level.OFF),
+    SUCCESS("✅ ", Level.INFO, Level.INFO),
+    GAME_END("🏁 GAME END: ", Level.INFO, Level.INFO),
+    WARNING("⚠️ ", Level.WARNING, Level.WARNING),
+    ERROR("❌ ERROR: ", Level.SEVERE, Level.SEVERE);
+
+    private final String prefix;
+    private final Level severity;
+    private final Level defaultLevel;
+
+    LogCategory(String prefix, Level severity, Level defaultLevel) {
+        this.prefix = prefix;
+        this.severity = severity;
+        this.defaultLevel = defaultLevel;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public Level getSeverity() {
+        return severity;
+    }
+
+    public Level getDefaultLevel() {
+        return defaultLevel;
+    }
+}
@@ -0,0 +1,24 @@
+package hr.algebra.theloop.utils;
+
+public class LogContext {
+
+    private volatile String gameId;
+    private volatile int turn;
+
+    public void set(String gameId, int turn) {
+        this.gameId = gameId;
+        this.turn = turn;
+    }
+
+    public void setTurn(int turn) {
+        this.turn = turn;
+    }
+
+    public String getGameId() {
+        return gameId;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+}
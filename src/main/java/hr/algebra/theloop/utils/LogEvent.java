@@ -0,0 +1,27 @@
+package hr.algebra.theloop.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LogEvent {
+
+    private final long timestampMillis;
+    private final LogCategory category;
+    private final String gameId;
+    private final int turn;
+    private final String message;
+    private final Object[] fields;
+
+    public String format() {
+        StringBuilder text = new StringBuilder(category.getPrefix()).append(message);
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            text.append(' ').append(fields[i]).append('=').append(fields[i + 1]);
+        }
+        if (gameId != null) {
+            text.append(" [game=").append(gameId).append(" turn=").append(turn).append(']');
+        }
+        return text.toString();
+    }
+}
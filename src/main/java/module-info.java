@@ -6,6 +6,7 @@ module hr.algebra.theloop {
     requires java.rmi;
     requires java.naming;
     requires java.logging;
+    requires jdk.jfr;
 
     exports hr.algebra.theloop;
 
@@ -23,6 +24,7 @@ module hr.algebra.theloop {
     exports hr.algebra.theloop.cards;
 
     exports hr.algebra.theloop.engine;
+    exports hr.algebra.theloop.simulation;
 
     exports hr.algebra.theloop.view;
     exports hr.algebra.theloop.ui;
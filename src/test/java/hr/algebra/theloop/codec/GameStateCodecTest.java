@@ -0,0 +1,176 @@
+package hr.algebra.theloop.codec;
+
+import hr.algebra.theloop.cards.ArtifactCard;
+import hr.algebra.theloop.engine.GameEngine;
+import hr.algebra.theloop.model.*;
+import hr.algebra.theloop.simulation.SimulatedGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateCodecTest {
+
+    private static final long SEED = 7;
+
+    @Test
+    void gameStateRoundTripsByteForByte() throws IOException {
+        GameState original = new SimulatedGame(SEED).play().getGameState();
+
+        byte[] encoded = encode(original);
+        GameState decoded = GameStateCodec.readGameState(new ByteArrayInputStream(encoded));
+
+        assertArrayEquals(encoded, encode(decoded));
+        assertEquals(original.getRandomSeed(), decoded.getRandomSeed());
+        assertEquals(original.getTurnNumber(), decoded.getTurnNumber());
+        assertEquals(original.getGameResult(), decoded.getGameResult());
+        for (Era era : Era.values()) {
+            assertEquals(original.getRifts(era), decoded.getRifts(era));
+            assertEquals(original.getDuplicatesAt(era).size(), decoded.getDuplicatesAt(era).size());
+        }
+        assertEquals(original.getActiveMissions().size(), decoded.getActiveMissions().size());
+        assertEquals(original.getPlayerStates().size(), decoded.getPlayerStates().size());
+    }
+
+    @Test
+    void gameStateKeepsExhaustedCardsAndNullResult() throws IOException {
+        GameState original = startedGame().getGameState();
+        ArtifactCard exhausted = original.getPlayerStates().get(0).getHand().get(0);
+        exhausted.exhaust();
+        original.setGameResult(null);
+
+        GameState decoded = GameStateCodec.readGameState(new ByteArrayInputStream(encode(original)));
+
+        assertNull(decoded.getGameResult());
+        ArtifactCard restored = decoded.getPlayerStates().get(0).getHand().get(0);
+        assertEquals(exhausted.getName(), restored.getName());
+        assertTrue(restored.isExhausted());
+        assertFalse(decoded.getPlayerStates().get(0).getHand().get(1).isExhausted());
+    }
+
+    @Test
+    void fullNetworkSnapshotRoundTrips() throws IOException {
+        NetworkGameState snapshot = snapshotOf(startedGame());
+
+        byte[] encoded = GameStateCodec.encode(snapshot);
+        NetworkGameState decoded = GameStateCodec.decodeNetworkState(encoded);
+
+        assertTrue(decoded.isFullSnapshot());
+        assertArrayEquals(encoded, GameStateCodec.encode(decoded));
+        assertEquals(snapshot.getLastAction(), decoded.getLastAction());
+        assertArrayEquals(snapshot.getRiftsPerEra(), decoded.getRiftsPerEra());
+        assertEquals(snapshot.getPlayerCount(), decoded.getPlayerCount());
+    }
+
+    @Test
+    void deltaRoundTripsAndAppliesToItsBase() throws IOException {
+        GameEngine engine = startedGame();
+        NetworkGameState base = snapshotOf(engine).withVersion(1);
+
+        engine.getGameState().addRifts(Era.values()[0], 1);
+        moveFirstPlayer(engine);
+        NetworkGameState current = snapshotOf(engine).withVersion(2);
+
+        NetworkGameState delta = NetworkGameState.delta(base, current);
+        NetworkGameState decoded = GameStateCodec.decodeNetworkState(GameStateCodec.encode(delta));
+
+        assertFalse(decoded.isFullSnapshot());
+        assertEquals(1, decoded.getBaseVersion());
+        assertEquals(1, Integer.bitCount(decoded.getChangedEraMask()));
+        assertEquals(1, decoded.getPlayerStates().size());
+        assertArrayEquals(GameStateCodec.encode(current), GameStateCodec.encode(base.applyDelta(decoded)));
+    }
+
+    @Test
+    void playerDataRoundTrips() throws IOException {
+        PlayerData original = startedGame().getGameState().getPlayerStates().get(0);
+        original.getDeck().get(0).exhaust();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameStateCodec.writePlayerData(new CodecOutput(new DataOutputStream(bytes)), original);
+        PlayerData decoded = GameStateCodec.readPlayerData(
+                new CodecInput(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+
+        assertTrue(original.sameStateAs(decoded));
+        assertEquals(original.getName(), decoded.getName());
+        assertEquals(original.getCurrentEra(), decoded.getCurrentEra());
+        assertEquals(names(original.getHand()), names(decoded.getHand()));
+        assertEquals(names(original.getDeck()), names(decoded.getDeck()));
+        assertTrue(decoded.getDeck().get(0).isExhausted());
+    }
+
+    @Test
+    void rejectsWrongMagic() throws IOException {
+        byte[] encoded = GameStateCodec.encode(snapshotOf(startedGame()));
+        encoded[0] ^= 0x7F;
+
+        assertThrows(IOException.class, () -> GameStateCodec.decodeNetworkState(encoded));
+    }
+
+    @Test
+    void rejectsNewerVersion() throws IOException {
+        byte[] encoded = GameStateCodec.encode(snapshotOf(startedGame()));
+        encoded[Integer.BYTES] = (byte) (GameStateCodec.FORMAT_VERSION + 1);
+
+        assertThrows(IOException.class, () -> GameStateCodec.decodeNetworkState(encoded));
+    }
+
+    @Test
+    void rejectsRecordOfTheWrongType() throws IOException {
+        byte[] encoded = GameStateCodec.encode(snapshotOf(startedGame()));
+
+        assertThrows(IOException.class, () -> GameStateCodec.readGameState(new ByteArrayInputStream(encoded)));
+    }
+
+    @Test
+    void rejectsPlayerMaskThatDisagreesWithPlayerStates() throws IOException {
+        GameEngine engine = startedGame();
+        NetworkGameState base = snapshotOf(engine).withVersion(1);
+        moveFirstPlayer(engine);
+        NetworkGameState delta = NetworkGameState.delta(base, snapshotOf(engine).withVersion(2));
+
+        delta.setChangedPlayerMask(delta.getChangedPlayerMask() | 0b10);
+        assertThrows(IOException.class, () -> GameStateCodec.decodeNetworkState(GameStateCodec.encode(delta)));
+
+        delta.setChangedPlayerMask(1 << delta.getPlayerCount());
+        assertThrows(IOException.class, () -> GameStateCodec.decodeNetworkState(GameStateCodec.encode(delta)));
+    }
+
+    @Test
+    void rejectsFullSnapshotMissingEras() throws IOException {
+        NetworkGameState snapshot = snapshotOf(startedGame());
+        NetworkGameState partial = NetworkGameState.delta(snapshot, snapshot);
+        partial.setBaseVersion(NetworkGameState.FULL_SNAPSHOT);
+
+        assertThrows(IOException.class, () -> GameStateCodec.decodeNetworkState(GameStateCodec.encode(partial)));
+    }
+
+    private static GameEngine startedGame() {
+        GameEngine engine = GameEngine.createHeadless(SEED);
+        engine.startGame();
+        engine.saveGame();
+        return engine;
+    }
+
+    private static void moveFirstPlayer(GameEngine engine) {
+        Player player = engine.getPlayerManager().getPlayers().get(0);
+        player.moveToEra(player.getCurrentEra().getNext());
+    }
+
+    private static NetworkGameState snapshotOf(GameEngine engine) {
+        engine.saveGame();
+        return NetworkGameState.fromGameState(engine.getGameState(), PlayerMode.PLAYER_ONE, "Test", "Tester");
+    }
+
+    private static byte[] encode(GameState gameState) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        GameStateCodec.writeGameState(gameState, bytes);
+        return bytes.toByteArray();
+    }
+
+    private static List<String> names(List<ArtifactCard> cards) {
+        return cards.stream().map(ArtifactCard::getName).toList();
+    }
+}
@@ -0,0 +1,67 @@
+package hr.algebra.theloop.networking;
+
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
+import hr.algebra.theloop.model.PlayerMode;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NetworkManagerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Test
+    void virtualThreadHostKeepsAcceptingAfterPeersDisconnect() throws Exception {
+        assertHostSurvivesReconnects(ServerMode.VIRTUAL_THREADS);
+    }
+
+    @Test
+    void nioHostKeepsAcceptingAfterPeersDisconnect() throws Exception {
+        assertHostSurvivesReconnects(ServerMode.NIO_SELECTOR);
+    }
+
+    private static void assertHostSurvivesReconnects(ServerMode serverMode) throws Exception {
+        NetworkManager networkManager = new NetworkManager((peer, state) -> { }, UIUpdateDispatcher.HEADLESS);
+        networkManager.setPlayerMode(PlayerMode.PLAYER_ONE);
+        networkManager.stop();
+        networkManager.start(serverMode);
+
+        try {
+            for (int i = 0; i < NetworkingUtils.MAX_PEER_CONNECTIONS * 2; i++) {
+                try (Socket socket = connect()) {
+                    awaitCount(networkManager::getConnectedPeerCount, 1, "peer " + i + " was not accepted");
+                }
+                awaitCount(networkManager::getConnectedPeerCount, 0, "peer " + i + " was not released");
+            }
+        } finally {
+            networkManager.stop();
+        }
+    }
+
+    private static Socket connect() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                return new Socket(InetAddress.getLoopbackAddress(), NetworkingUtils.getHostPort());
+            } catch (IOException e) {
+                if (System.currentTimeMillis() > deadline) {
+                    fail("Host never started listening: " + e.getMessage());
+                }
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private static void awaitCount(IntSupplier count, int expected, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (count.getAsInt() != expected) {
+            assertTrue(System.currentTimeMillis() < deadline, message);
+            Thread.sleep(10);
+        }
+    }
+}
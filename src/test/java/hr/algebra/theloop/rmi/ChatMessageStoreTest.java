@@ -0,0 +1,76 @@
+package hr.algebra.theloop.rmi;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMessageStoreTest {
+
+    @Test
+    void oversizedMessageIsTruncatedAndLaterHistorySurvivesRestart() throws IOException {
+        Path logFile = Files.createTempDirectory("theloop-chat-test").resolve("chat.log");
+
+        ChatMessageStore store = new ChatMessageStore(8, ChatLog.open(logFile));
+        store.append("hi");
+        store.append("x".repeat(100_000));
+        store.append("bye");
+        store.close();
+
+        try (ChatLog chatLog = ChatLog.open(logFile)) {
+            assertEquals(3, chatLog.getLatestSequence());
+            assertEquals(3, chatLog.read(1, 3).size());
+        }
+
+        ChatMessageStore restored = new ChatMessageStore(8, ChatLog.open(logFile));
+        List<ChatMessage> messages = restored.getSince(0);
+        restored.close();
+
+        assertEquals(3, messages.size());
+        assertEquals("hi", messages.get(0).getText());
+        assertEquals(ChatMessageStore.MAX_MESSAGE_LENGTH, messages.get(1).getText().length());
+        assertEquals("bye", messages.get(2).getText());
+    }
+
+    @Test
+    void logRejectsRecordOverTheSizeLimitAndStaysWritable() throws IOException {
+        Path logFile = Files.createTempDirectory("theloop-chat-test").resolve("chat.log");
+
+        try (ChatLog chatLog = ChatLog.open(logFile)) {
+            assertThrows(IOException.class, () -> chatLog.append(new ChatMessage(1, "x".repeat(100_000))));
+            chatLog.append(new ChatMessage(1, "hi"));
+            assertEquals(1, chatLog.read(1, 10).size());
+        }
+    }
+
+    @Test
+    void restoredRingSkipsMessagesMissingFromTheLog() throws IOException {
+        Path logFile = Files.createTempDirectory("theloop-chat-test").resolve("chat.log");
+        try (ChatLog chatLog = ChatLog.open(logFile)) {
+            chatLog.append(new ChatMessage(1, "hi"));
+            chatLog.append(new ChatMessage(2, "lost"));
+            chatLog.append(new ChatMessage(3, "bye"));
+        }
+        corruptRecordLength(logFile, Integer.BYTES + Long.BYTES + "hi".length());
+
+        ChatMessageStore restored = new ChatMessageStore(8, ChatLog.open(logFile));
+        List<ChatMessage> messages = restored.getSince(0);
+        restored.close();
+
+        assertFalse(messages.contains(null));
+        assertEquals("hi", messages.get(0).getText());
+    }
+
+    private static void corruptRecordLength(Path logFile, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, Integer.MAX_VALUE), offset);
+        }
+    }
+}
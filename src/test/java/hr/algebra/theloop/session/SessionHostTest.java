@@ -0,0 +1,133 @@
+package hr.algebra.theloop.session;
+
+import hr.algebra.theloop.engine.UIUpdateDispatcher;
+import hr.algebra.theloop.jndi.ConfigurationKey;
+import hr.algebra.theloop.jndi.ConfigurationReader;
+import hr.algebra.theloop.model.PlayerMode;
+import hr.algebra.theloop.networking.NetworkManager;
+import hr.algebra.theloop.networking.NetworkingUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHostTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Test
+    void peersWithTheSameIdShareOneSession() throws Exception {
+        int port = freePort();
+        SessionHost host = start(port, 4, Duration.ofMinutes(1));
+
+        try (Socket first = join(port, "table-1");
+             Socket second = join(port, "table-1");
+             Socket other = join(port, "table-2")) {
+            await(() -> peersIn(host, "table-1") == 2 && peersIn(host, "table-2") == 1, "peers were not routed");
+            assertEquals(2, host.getSessions().size());
+        } finally {
+            host.stop();
+        }
+    }
+
+    @Test
+    void joinsBeyondTheSessionLimitAreRejected() throws Exception {
+        int port = freePort();
+        SessionHost host = start(port, 1, Duration.ofMinutes(1));
+
+        try (Socket accepted = join(port, "table-1")) {
+            await(() -> peersIn(host, "table-1") == 1, "peer was not routed");
+
+            try (Socket rejected = join(port, "table-2")) {
+                rejected.setSoTimeout((int) TIMEOUT_MILLIS);
+                assertEquals(-1, rejected.getInputStream().read());
+            }
+            assertEquals(1, host.getSessions().size());
+        } finally {
+            host.stop();
+        }
+    }
+
+    @Test
+    void emptySessionIsReapedAfterTheIdleTimeout() throws Exception {
+        int port = freePort();
+        SessionHost host = start(port, 4, Duration.ofMillis(200));
+
+        try {
+            try (Socket peer = join(port, "table-1")) {
+                await(() -> peersIn(host, "table-1") == 1, "peer was not routed");
+            }
+            await(() -> host.getSessions().isEmpty(), "idle session was not reaped");
+
+            host.getOrCreateSession("never-joined");
+            await(() -> host.getSessions().isEmpty(), "session nobody joined was not reaped");
+        } finally {
+            host.stop();
+        }
+    }
+
+    @Test
+    void clientJoinsTheConfiguredSession() throws Exception {
+        ConfigurationReader.updateConfiguration(ConfigurationKey.SESSION_ID, "table-9");
+        SessionHost host = start(NetworkingUtils.getHostPort(), 4, Duration.ofMinutes(1));
+        NetworkManager networkManager = new NetworkManager((peer, state) -> { }, UIUpdateDispatcher.HEADLESS);
+
+        try {
+            networkManager.setPlayerMode(PlayerMode.PLAYER_TWO);
+            await(() -> peersIn(host, "table-9") == 1, "client did not join its configured session");
+        } finally {
+            networkManager.stop();
+            host.stop();
+            ConfigurationReader.updateConfiguration(ConfigurationKey.SESSION_ID, "");
+        }
+    }
+
+    private static SessionHost start(int port, int maxSessions, Duration idleTimeout) {
+        SessionHost host = new SessionHost(port, maxSessions, idleTimeout);
+        Thread thread = new Thread(host, "SessionHostTest");
+        thread.setDaemon(true);
+        thread.start();
+        return host;
+    }
+
+    private static Socket join(int port, String sessionId) throws Exception {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (true) {
+            try {
+                Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+                socket.getOutputStream().write(NetworkingUtils.joinFrame(sessionId));
+                return socket;
+            } catch (IOException e) {
+                assertTrue(System.currentTimeMillis() < deadline, "Session host never started listening");
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    private static int peersIn(SessionHost host, String sessionId) {
+        return host.getSessions().stream()
+                .filter(session -> session.getSessionId().equals(sessionId))
+                .mapToInt(GameSession::getConnectedPeerCount)
+                .sum();
+    }
+
+    private static void await(BooleanSupplier condition, String message) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, message);
+            Thread.sleep(10);
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket probe = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return probe.getLocalPort();
+        }
+    }
+}